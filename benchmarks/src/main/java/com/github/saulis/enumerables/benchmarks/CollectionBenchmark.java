@@ -0,0 +1,154 @@
+package com.github.saulis.enumerables.benchmarks;
+
+import com.github.saulis.enumerables.Enumerable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures operations that collect, copy or look up items of the source.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionBenchmark {
+
+    @Benchmark
+    public List<Integer> enumerableToList(Source source) {
+        return source.enumerable.toList();
+    }
+
+    @Benchmark
+    public List<Integer> streamToList(Source source) {
+        return source.stream().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> loopToList(Source source) {
+        List<Integer> list = new ArrayList<>();
+
+        if(source.isArray()) {
+            for(Integer x : source.array) {
+                list.add(x);
+            }
+        } else {
+            list.addAll(source.list);
+        }
+
+        return list;
+    }
+
+    @Benchmark
+    public Integer[] enumerableToArray(Source source) {
+        return source.enumerable.toArray();
+    }
+
+    @Benchmark
+    public Integer[] enumerableToArrayWithSize(Source source) {
+        return source.enumerable.toArray(size -> new Integer[size]);
+    }
+
+    @Benchmark
+    public Integer[] streamToArray(Source source) {
+        return source.stream().toArray(Integer[]::new);
+    }
+
+    @Benchmark
+    public Set<Integer> enumerableCollectSet(Source source) {
+        return source.enumerable.collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public Set<Integer> streamCollectSet(Source source) {
+        return source.stream().collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> enumerableGroupBy(Source source) {
+        return source.enumerable.groupBy(x -> x % 16);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> streamGroupBy(Source source) {
+        return source.stream().collect(Collectors.groupingBy(x -> x % 16));
+    }
+
+    @Benchmark
+    public int enumerableCopy(Source source) {
+        return source.enumerable.copy().count();
+    }
+
+    @Benchmark
+    public int enumerableSave(Source source) {
+        Enumerable<Integer> saved = source.enumerable.save();
+
+        return saved.count() + saved.count();
+    }
+
+    @Benchmark
+    public Optional<Integer> enumerableReverse(Source source) {
+        return source.enumerable.reverse().findFirst();
+    }
+
+    @Benchmark
+    public Optional<Integer> enumerableFindFirst(Source source) {
+        return source.enumerable.findFirst();
+    }
+
+    @Benchmark
+    public Optional<Integer> streamFindFirst(Source source) {
+        return source.stream().findFirst();
+    }
+
+    @Benchmark
+    public Optional<Integer> enumerableFindLast(Source source) {
+        return source.enumerable.findLast();
+    }
+
+    @Benchmark
+    public Optional<Integer> streamFindLast(Source source) {
+        return source.stream().reduce((a, b) -> b);
+    }
+
+    @Benchmark
+    public Integer loopFindLast(Source source) {
+        if(source.isArray()) {
+            return source.array[source.array.length - 1];
+        }
+
+        return source.list.get(source.list.size() - 1);
+    }
+
+    @Benchmark
+    public Optional<Integer> enumerableFindSingle(Source source) {
+        return source.enumerable.limit(1).findSingle();
+    }
+
+    @Benchmark
+    public boolean enumerableIsEmpty(Source source) {
+        return source.enumerable.isEmpty();
+    }
+
+    @Benchmark
+    public boolean enumerableSizeIsExactly(Source source) {
+        return source.enumerable.sizeIsExactly(source.size);
+    }
+
+    @Benchmark
+    public boolean enumerableSizeIsGreaterThan(Source source) {
+        return source.enumerable.sizeIsGreaterThan(source.size / 2);
+    }
+
+    @Benchmark
+    public boolean enumerableSizeIsLessThan(Source source) {
+        return source.enumerable.sizeIsLessThan(source.size / 2);
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.saulis.enumerables.benchmarks;
+
+import com.github.saulis.enumerables.Enumerable;
+import com.github.saulis.enumerables.IntEnumerable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Measures the enumerable factory methods.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstructionBenchmark {
+
+    @Benchmark
+    public Integer enumerableRange(Source source) {
+        return Enumerable.range(1, source.size).reduce(0, (acc, x) -> acc ^ x);
+    }
+
+    @Benchmark
+    public int enumerableIntRange(Source source) {
+        return IntEnumerable.range(1, source.size).reduce(0, (acc, x) -> acc ^ x);
+    }
+
+    @Benchmark
+    public int streamRange(Source source) {
+        return IntStream.rangeClosed(1, source.size).reduce(0, (acc, x) -> acc ^ x);
+    }
+
+    @Benchmark
+    public int enumerableRepeat(Source source) {
+        return Enumerable.repeat(() -> 1, source.size).count();
+    }
+
+    @Benchmark
+    public long streamRepeat(Source source) {
+        return Stream.generate(() -> 1).limit(source.size).count();
+    }
+
+    @Benchmark
+    public int enumerableOf(Source source) {
+        return Enumerable.of(source.array).count();
+    }
+
+    @Benchmark
+    public int enumerableCopyOf(Source source) {
+        return Enumerable.copyOf(source.enumerable).count();
+    }
+
+    @Benchmark
+    public int enumerableEmpty() {
+        return Enumerable.empty().count();
+    }
+}
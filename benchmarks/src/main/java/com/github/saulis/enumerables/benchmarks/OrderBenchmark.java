@@ -0,0 +1,51 @@
+package com.github.saulis.enumerables.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures ordering operations, including taking the top items of an
+ * ordered enumerable.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderBenchmark {
+
+    @Benchmark
+    public Optional<Integer> enumerableOrderBy(Source source) {
+        return source.enumerable.orderBy(x -> x).findFirst();
+    }
+
+    @Benchmark
+    public Optional<Integer> enumerableOrderByComparator(Source source) {
+        return source.enumerable.orderBy(Comparator.<Integer>naturalOrder()).findFirst();
+    }
+
+    @Benchmark
+    public Optional<Integer> enumerableOrderByDescending(Source source) {
+        return source.enumerable.orderByDescending(x -> x).findFirst();
+    }
+
+    @Benchmark
+    public Optional<Integer> streamSorted(Source source) {
+        return source.stream().sorted().findFirst();
+    }
+
+    @Benchmark
+    public List<Integer> enumerableTopTen(Source source) {
+        return source.enumerable.orderByDescending(x -> x).limit(10).toList();
+    }
+
+    @Benchmark
+    public List<Integer> streamTopTen(Source source) {
+        return source.stream().sorted(Comparator.reverseOrder()).limit(10).collect(Collectors.toList());
+    }
+}
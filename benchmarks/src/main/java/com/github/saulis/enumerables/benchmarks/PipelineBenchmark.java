@@ -0,0 +1,90 @@
+package com.github.saulis.enumerables.benchmarks;
+
+import com.github.saulis.enumerables.Enumerable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the per-stage overhead of pipelines of alternating map and filter
+ * operations of increasing depth.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PipelineBenchmark {
+
+    @Param({"1", "3", "6"})
+    public int depth;
+
+    private Enumerable<Integer> pipeline;
+
+    @Setup
+    public void setup(Source source) {
+        pipeline = source.enumerable;
+
+        for(int i=0;i<depth;i++) {
+            pipeline = i % 2 == 0 ? pipeline.map(x -> x + 1) : pipeline.filter(x -> x % 7 != 0);
+        }
+    }
+
+    @Benchmark
+    public int enumerableCount() {
+        return pipeline.count();
+    }
+
+    @Benchmark
+    public int enumerableIterator() {
+        int count = 0;
+
+        for(Integer x : pipeline) {
+            count++;
+        }
+
+        return count;
+    }
+
+    @Benchmark
+    public long streamCount(Source source) {
+        Stream<Integer> stream = source.stream();
+
+        for(int i=0;i<depth;i++) {
+            stream = i % 2 == 0 ? stream.map(x -> x + 1) : stream.filter(x -> x % 7 != 0);
+        }
+
+        return stream.count();
+    }
+
+    @Benchmark
+    public int loopCount(Source source) {
+        int count = 0;
+
+        if(source.isArray()) {
+            for(Integer x : source.array) {
+                count += passes(x) ? 1 : 0;
+            }
+        } else {
+            for(Integer x : source.list) {
+                count += passes(x) ? 1 : 0;
+            }
+        }
+
+        return count;
+    }
+
+    private boolean passes(int x) {
+        for(int i=0;i<depth;i++) {
+            if(i % 2 == 0) {
+                x = x + 1;
+            } else if(x % 7 == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,201 @@
+package com.github.saulis.enumerables.benchmarks;
+
+import com.github.saulis.enumerables.Accumulator;
+import com.github.saulis.enumerables.Enumerable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reductions and matching operations that go through the whole
+ * source.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReductionBenchmark {
+
+    @Benchmark
+    public int enumerableCount(Source source) {
+        return source.enumerable.count();
+    }
+
+    @Benchmark
+    public long streamCount(Source source) {
+        return source.stream().count();
+    }
+
+    @Benchmark
+    public Optional<Double> enumerableSum(Source source) {
+        return source.enumerable.sum(x -> x);
+    }
+
+    @Benchmark
+    public long enumerableIntSum(Source source) {
+        return source.enumerable.mapToInt(x -> x).sum();
+    }
+
+    @Benchmark
+    public long streamSum(Source source) {
+        return source.stream().mapToLong(x -> x).sum();
+    }
+
+    @Benchmark
+    public long loopSum(Source source) {
+        long sum = 0;
+
+        if(source.isArray()) {
+            for(Integer x : source.array) {
+                sum += x;
+            }
+        } else {
+            for(Integer x : source.list) {
+                sum += x;
+            }
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public Optional<Double> enumerableAverage(Source source) {
+        return source.enumerable.average(x -> x);
+    }
+
+    @Benchmark
+    public double streamAverage(Source source) {
+        return source.stream().mapToInt(x -> x).average().orElse(0);
+    }
+
+    @Benchmark
+    public Optional<Integer> enumerableMax(Source source) {
+        return source.enumerable.max(x -> x);
+    }
+
+    @Benchmark
+    public Optional<Integer> enumerableMin(Source source) {
+        return source.enumerable.min(x -> x);
+    }
+
+    @Benchmark
+    public Optional<Integer> streamMax(Source source) {
+        return source.stream().max(Integer::compare);
+    }
+
+    @Benchmark
+    public int loopMax(Source source) {
+        int max = Integer.MIN_VALUE;
+
+        if(source.isArray()) {
+            for(Integer x : source.array) {
+                max = Math.max(max, x);
+            }
+        } else {
+            for(Integer x : source.list) {
+                max = Math.max(max, x);
+            }
+        }
+
+        return max;
+    }
+
+    @Benchmark
+    public Integer enumerableReduce(Source source) {
+        return source.enumerable.reduce(0, (acc, x) -> acc ^ x);
+    }
+
+    @Benchmark
+    public Integer enumerableReduceWithCombiner(Source source) {
+        return source.enumerable.reduce(0, (acc, x) -> acc ^ x, (a, b) -> a ^ b);
+    }
+
+    @Benchmark
+    public Integer streamReduce(Source source) {
+        return source.stream().reduce(0, (acc, x) -> acc ^ x);
+    }
+
+    @Benchmark
+    public List<Object> enumerableMultiReduce(Source source) {
+        return source.enumerable.reduce(
+                new Accumulator<Integer, Object>(0L, (acc, x) -> (long) acc + x),
+                new Accumulator<Integer, Object>(0, (acc, x) -> (int) acc + 1));
+    }
+
+    @Benchmark
+    public boolean enumerableAllMatch(Source source) {
+        return source.enumerable.allMatch(x -> x >= 0);
+    }
+
+    @Benchmark
+    public boolean enumerableAnyMatch(Source source) {
+        return source.enumerable.anyMatch(x -> x < 0);
+    }
+
+    @Benchmark
+    public boolean enumerableNoneMatch(Source source) {
+        return source.enumerable.noneMatch(x -> x < 0);
+    }
+
+    @Benchmark
+    public boolean streamAnyMatch(Source source) {
+        return source.stream().anyMatch(x -> x < 0);
+    }
+
+    @Benchmark
+    public boolean enumerableContains(Source source) {
+        return source.enumerable.contains(Source.MISSING);
+    }
+
+    @Benchmark
+    public boolean streamContains(Source source) {
+        return source.stream().anyMatch(x -> x.equals(Source.MISSING));
+    }
+
+    @Benchmark
+    public boolean loopContains(Source source) {
+        if(source.isArray()) {
+            for(Integer x : source.array) {
+                if(x.equals(Source.MISSING)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        return source.list.contains(Source.MISSING);
+    }
+
+    @Benchmark
+    public void enumerableForEach(Source source, Blackhole blackhole) {
+        source.enumerable.forEach(x -> blackhole.consume(x));
+    }
+
+    @Benchmark
+    public void enumerableIndexedForEach(Source source, Blackhole blackhole) {
+        source.enumerable.forEach((x, i) -> blackhole.consume(i));
+    }
+
+    @Benchmark
+    public void streamForEach(Source source, Blackhole blackhole) {
+        source.stream().forEach(x -> blackhole.consume(x));
+    }
+
+    @Benchmark
+    public void loopForEach(Source source, Blackhole blackhole) {
+        if(source.isArray()) {
+            for(Integer x : source.array) {
+                blackhole.consume(x);
+            }
+        } else {
+            for(Integer x : source.list) {
+                blackhole.consume(x);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.saulis.enumerables.benchmarks;
+
+import com.github.saulis.enumerables.Enumerable;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Source data shared by all benchmarks. Every benchmark is run against each
+ * combination of source size and source kind.
+ */
+@State(Scope.Benchmark)
+public class Source {
+
+    /**
+     * Value that is never contained in the source, so that matching
+     * operations have to go through every item.
+     */
+    public static final Integer MISSING = -1;
+
+    @Param({"10", "10000", "10000000"})
+    public int size;
+
+    @Param({"array", "ArrayList", "LinkedList"})
+    public String kind;
+
+    public Integer[] array;
+    public List<Integer> list;
+    public Enumerable<Integer> enumerable;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        array = new Integer[size];
+
+        for(int i=0;i<size;i++) {
+            array[i] = random.nextInt(size);
+        }
+
+        switch(kind) {
+            case "array":
+                list = null;
+                enumerable = Enumerable.of(array);
+                break;
+            case "ArrayList":
+                list = new ArrayList<>(Arrays.asList(array));
+                enumerable = Enumerable.of(list);
+                break;
+            case "LinkedList":
+                list = new LinkedList<>(Arrays.asList(array));
+                enumerable = Enumerable.of(list);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown source kind: " + kind);
+        }
+    }
+
+    public Stream<Integer> stream() {
+        return list == null ? Arrays.stream(array) : list.stream();
+    }
+
+    public boolean isArray() {
+        return list == null;
+    }
+}
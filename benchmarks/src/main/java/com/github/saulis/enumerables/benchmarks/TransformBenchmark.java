@@ -0,0 +1,150 @@
+package com.github.saulis.enumerables.benchmarks;
+
+import com.github.saulis.enumerables.Enumerable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures operations that return a new enumerable. Each result is counted so
+ * that the whole transformed enumerable is consumed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransformBenchmark {
+
+    @Benchmark
+    public int enumerableMap(Source source) {
+        return source.enumerable.map(x -> x + 1).count();
+    }
+
+    @Benchmark
+    public long streamMap(Source source) {
+        return source.stream().map(x -> x + 1).count();
+    }
+
+    @Benchmark
+    public int enumerableFilter(Source source) {
+        return source.enumerable.filter(x -> x % 2 == 0).count();
+    }
+
+    @Benchmark
+    public int enumerableIndexedFilter(Source source) {
+        return source.enumerable.filter((x, i) -> i % 2 == 0).count();
+    }
+
+    @Benchmark
+    public long streamFilter(Source source) {
+        return source.stream().filter(x -> x % 2 == 0).count();
+    }
+
+    @Benchmark
+    public int loopFilter(Source source) {
+        int count = 0;
+
+        if(source.isArray()) {
+            for(Integer x : source.array) {
+                if(x % 2 == 0) {
+                    count++;
+                }
+            }
+        } else {
+            for(Integer x : source.list) {
+                if(x % 2 == 0) {
+                    count++;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark
+    public int enumerableFlatMap(Source source) {
+        return source.enumerable.flatMap(x -> new Integer[] { x, x }).count();
+    }
+
+    @Benchmark
+    public long streamFlatMap(Source source) {
+        return source.stream().flatMap(x -> java.util.stream.Stream.of(x, x)).count();
+    }
+
+    @Benchmark
+    public int enumerableConcatArray(Source source) {
+        return source.enumerable.concat(1, 2, 3).count();
+    }
+
+    @Benchmark
+    public int enumerableConcatIterable(Source source) {
+        return source.enumerable.concat(source.enumerable).count();
+    }
+
+    @Benchmark
+    public int enumerableLimit(Source source) {
+        return source.enumerable.limit(source.size / 2).count();
+    }
+
+    @Benchmark
+    public long streamLimit(Source source) {
+        return source.stream().limit(source.size / 2).count();
+    }
+
+    @Benchmark
+    public int enumerableSkip(Source source) {
+        return source.enumerable.skip(source.size / 2).count();
+    }
+
+    @Benchmark
+    public long streamSkip(Source source) {
+        return source.stream().skip(source.size / 2).count();
+    }
+
+    @Benchmark
+    public int enumerablePeek(Source source) {
+        int[] peeked = { 0 };
+
+        return source.enumerable.peek(x -> peeked[0]++).count() + peeked[0];
+    }
+
+    @Benchmark
+    public int enumerableSplit(Source source) {
+        Enumerable<Integer>[] split = source.enumerable.split(x -> x % 3 == 0, x -> x % 3 == 1);
+
+        return split[0].count() + split[1].count() + split[2].count();
+    }
+
+    @Benchmark
+    public int enumerableFilterThreeTimes(Source source) {
+        return source.enumerable.filter(x -> x % 3 == 0).count()
+                + source.enumerable.filter(x -> x % 3 == 1).count()
+                + source.enumerable.filter(x -> x % 3 == 2).count();
+    }
+
+    @Benchmark
+    public int enumerableCast(Source source) {
+        return source.enumerable.cast(Number.class).count();
+    }
+
+    @Benchmark
+    public int enumerableFilterType(Source source) {
+        return source.enumerable.filterType(Integer.class).count();
+    }
+
+    @Benchmark
+    public int enumerableParallelMap(Source source) {
+        return source.enumerable.parallel().map(x -> x + 1).count();
+    }
+
+    @Benchmark
+    public long streamParallelMap(Source source) {
+        return source.stream().parallel().map(x -> x + 1).count();
+    }
+
+    @Benchmark
+    public long enumerableStream(Source source) {
+        return source.enumerable.stream().count();
+    }
+}
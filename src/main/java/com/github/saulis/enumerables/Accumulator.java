@@ -20,4 +20,8 @@ public class Accumulator<T, R> implements Function<T, R> {
 
         return accumulatedValue;
     }
+
+    public R getValue() {
+        return accumulatedValue;
+    }
 }
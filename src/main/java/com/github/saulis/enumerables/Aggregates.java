@@ -0,0 +1,44 @@
+package com.github.saulis.enumerables;
+
+import java.util.stream.Collector;
+
+/**
+ * Results of a multi aggregation. Results can be fetched by the collector
+ * that produced them or by their position.
+ */
+public class Aggregates {
+    private final Collector<?, ?, ?>[] collectors;
+    private final Object[] results;
+
+    Aggregates(Collector<?, ?, ?>[] collectors, Object[] results) {
+        this.collectors = collectors;
+        this.results = results;
+    }
+
+    /**
+     * Returns the result of the provided collector.
+     */
+    public <R> R get(Collector<?, ?, R> collector) {
+        for(int i=0;i<collectors.length;i++) {
+            if(collectors[i] == collector) {
+                return (R) results[i];
+            }
+        }
+
+        throw new IllegalArgumentException("Collector is not part of the aggregation.");
+    }
+
+    /**
+     * Returns the result of the collector at the provided position.
+     */
+    public Object get(int index) {
+        return results[index];
+    }
+
+    /**
+     * Returns the number of results.
+     */
+    public int size() {
+        return results.length;
+    }
+}
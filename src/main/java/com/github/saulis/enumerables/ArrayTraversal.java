@@ -0,0 +1,17 @@
+package com.github.saulis.enumerables;
+
+public class ArrayTraversal<T> implements Traversal<T> {
+
+    private final T[] items;
+
+    public ArrayTraversal(T[] items) {
+        this.items = items;
+    }
+
+    @Override
+    public void traverse(Sink<T> sink) {
+        for(int i=0;i<items.length && !sink.isDone();i++) {
+            sink.accept(items[i]);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.saulis.enumerables;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class BatchIterator<T> implements Iterator<List<T>> {
+
+    private final Iterator<T> iterator;
+    private final int size;
+    private final List<T> buffer;
+
+    public BatchIterator(Iterable<T> iterable, int size, boolean reuseBuffer) {
+        this.iterator = iterable.iterator();
+        this.size = size;
+        this.buffer = reuseBuffer ? new ArrayList<>(size) : null;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public List<T> next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        List<T> batch = buffer == null ? new ArrayList<>(size) : buffer;
+        batch.clear();
+
+        while(batch.size() < size && iterator.hasNext()) {
+            batch.add(iterator.next());
+        }
+
+        return batch;
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.saulis.enumerables;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BatchSink<T> implements Sink<T> {
+
+    private final Sink<List<T>> sink;
+    private final int size;
+    private final boolean reuseBuffer;
+    private List<T> batch;
+
+    public BatchSink(Sink<List<T>> sink, int size, boolean reuseBuffer) {
+        this.sink = sink;
+        this.size = size;
+        this.reuseBuffer = reuseBuffer;
+        this.batch = new ArrayList<>(size);
+    }
+
+    @Override
+    public void accept(T t) {
+        batch.add(t);
+
+        if(batch.size() == size) {
+            push();
+        }
+    }
+
+    /**
+     * Pushes the last, possibly partial batch after the traversal has ended.
+     */
+    public void flush() {
+        if(!batch.isEmpty() && !sink.isDone()) {
+            push();
+        }
+    }
+
+    @Override
+    public boolean isDone() {
+        return sink.isDone();
+    }
+
+    private void push() {
+        sink.accept(batch);
+
+        if(reuseBuffer) {
+            batch.clear();
+        } else {
+            batch = new ArrayList<>(size);
+        }
+    }
+}
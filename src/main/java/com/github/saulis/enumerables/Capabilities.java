@@ -0,0 +1,207 @@
+package com.github.saulis.enumerables;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Describes what is known about the source of an enumerable: its exact size,
+ * whether items can be accessed by index and the collection backing it.
+ * Sizes are read lazily so that changes to mutable sources are seen.
+ *
+ * Sequential access by index goes through a reader, which is created once
+ * per iteration and may return the same reused object for every index.
+ * Random access through get() always returns separate items.
+ */
+public class Capabilities<T> {
+    private final LongSupplier size;
+    private final LongFunction<T> elementAt;
+    private final Supplier<LongFunction<T>> reader;
+    private final Collection<T> collection;
+
+    private Capabilities(LongSupplier size, LongFunction<T> elementAt, Collection<T> collection) {
+        this(size, elementAt, elementAt == null ? null : () -> elementAt, collection);
+    }
+
+    private Capabilities(LongSupplier size, LongFunction<T> elementAt, Supplier<LongFunction<T>> reader,
+                         Collection<T> collection) {
+        this.size = size;
+        this.elementAt = elementAt;
+        this.reader = reader;
+        this.collection = collection;
+    }
+
+    /**
+     * Nothing is known about the source.
+     */
+    public static <T> Capabilities<T> none() {
+        return new Capabilities<>(null, null, null);
+    }
+
+    /**
+     * Source has a known size and its items can be accessed by index.
+     */
+    public static <T> Capabilities<T> of(LongSupplier size, LongFunction<T> elementAt) {
+        return new Capabilities<>(size, elementAt, null);
+    }
+
+    /**
+     * Source has a known size and its items can be accessed by index. When
+     * iterating, items are read using a reader from the provided supplier,
+     * which can reuse a single object for all items.
+     */
+    public static <T> Capabilities<T> of(LongSupplier size, LongFunction<T> elementAt,
+                                         Supplier<LongFunction<T>> reader) {
+        return new Capabilities<>(size, elementAt, reader, null);
+    }
+
+    public static <T> Capabilities<T> of(T[] items) {
+        return new Capabilities<>(() -> items.length, i -> items[(int) i], Arrays.asList(items));
+    }
+
+    public static <T> Capabilities<T> of(Iterable<T> items) {
+        if(items instanceof Enumerable) {
+            return ((Enumerable<T>) items).getCapabilities();
+        }
+
+        if(!(items instanceof Collection)) {
+            return none();
+        }
+
+        Collection<T> collection = (Collection<T>) items;
+
+        if(collection instanceof List && collection instanceof RandomAccess) {
+            List<T> list = (List<T>) collection;
+
+            return new Capabilities<>(() -> list.size(), i -> list.get((int) i), list);
+        }
+
+        return new Capabilities<>(() -> collection.size(), null, collection);
+    }
+
+    public boolean hasSize() {
+        return size != null;
+    }
+
+    public long size() {
+        return size.getAsLong();
+    }
+
+    public boolean isRandomAccess() {
+        return elementAt != null;
+    }
+
+    public T get(long index) {
+        return elementAt.apply(index);
+    }
+
+    /**
+     * Returns a function for reading the items of a single iteration by
+     * index. Returned items may be reused between calls.
+     */
+    public LongFunction<T> reader() {
+        return reader.get();
+    }
+
+    public boolean hasCollection() {
+        return collection != null;
+    }
+
+    public Collection<T> getCollection() {
+        return collection;
+    }
+
+    /**
+     * Capabilities after mapping the items. The backing collection no longer
+     * holds the mapped items.
+     */
+    public <R> Capabilities<R> map(Function<T, R> mappingFunction) {
+        return new Capabilities<>(size,
+                elementAt == null ? null : i -> mappingFunction.apply(elementAt.apply(i)),
+                elementAt == null ? null : () -> {
+                    LongFunction<T> read = reader();
+
+                    return i -> mappingFunction.apply(read.apply(i));
+                },
+                null);
+    }
+
+    /**
+     * Capabilities after ordering the items. Size and the backing collection
+     * stay the same, but the indexes of the items change.
+     */
+    public Capabilities<T> order() {
+        return new Capabilities<>(size, null, collection);
+    }
+
+    /**
+     * Capabilities after collecting the items into batches of the provided size.
+     */
+    public <R> Capabilities<R> batch(int batchSize) {
+        return new Capabilities<>(size == null ? null : () -> (size.getAsLong() + batchSize - 1) / batchSize,
+                null,
+                null);
+    }
+
+    /**
+     * Capabilities after zipping the items with other items. Zipped items can
+     * be accessed by index only if both sides can.
+     */
+    public <U, R> Capabilities<R> zip(Capabilities<U> other, BiFunction<T, U, R> zipFunction) {
+        return new Capabilities<>(hasSize() && other.hasSize() ? () -> Math.min(size(), other.size()) : null,
+                isRandomAccess() && other.isRandomAccess() ? i -> zipFunction.apply(get(i), other.get(i)) : null,
+                isRandomAccess() && other.isRandomAccess() ? () -> {
+                    LongFunction<T> read = reader();
+                    LongFunction<U> readOther = other.reader();
+
+                    return i -> zipFunction.apply(read.apply(i), readOther.apply(i));
+                } : null,
+                null);
+    }
+
+    /**
+     * Capabilities after reversing the order of the items.
+     */
+    public Capabilities<T> reverse() {
+        return new Capabilities<>(size,
+                elementAt == null ? null : i -> elementAt.apply(size.getAsLong() - 1 - i),
+                elementAt == null ? null : () -> {
+                    LongFunction<T> read = reader();
+
+                    return i -> read.apply(size.getAsLong() - 1 - i);
+                },
+                collection);
+    }
+
+    /**
+     * Capabilities after limiting the size of the items.
+     */
+    public Capabilities<T> limit(long n) {
+        return new Capabilities<>(size == null ? null : () -> Math.max(0, Math.min(size.getAsLong(), n)),
+                elementAt,
+                reader,
+                null);
+    }
+
+    /**
+     * Capabilities after skipping a number of items.
+     */
+    public Capabilities<T> skip(long n) {
+        long skipped = Math.max(0, n);
+
+        return new Capabilities<>(size == null ? null : () -> Math.max(0, size.getAsLong() - skipped),
+                elementAt == null ? null : i -> elementAt.apply(i + skipped),
+                elementAt == null ? null : () -> {
+                    LongFunction<T> read = reader();
+
+                    return i -> read.apply(i + skipped);
+                },
+                null);
+    }
+}
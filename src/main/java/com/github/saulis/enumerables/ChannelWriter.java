@@ -0,0 +1,188 @@
+package com.github.saulis.enumerables;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.function.BiConsumer;
+
+/**
+ * Encodes items into reusable direct buffers and writes them to a channel
+ * only when the buffers are full. With multiple buffers, a gathering channel
+ * writes them all with a single call.
+ */
+public class ChannelWriter {
+    static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer[] buffers;
+    private CharsetEncoder encoder;
+    private String pending;
+    private int current;
+    private long written;
+
+    public ChannelWriter(WritableByteChannel channel, int bufferSize, int bufferCount) {
+        if(bufferSize <= 0 || bufferCount <= 0) {
+            throw new IllegalArgumentException("Buffer size and count must be positive.");
+        }
+
+        this.channel = channel;
+        this.buffers = new ByteBuffer[bufferCount];
+        this.current = 0;
+        this.written = 0;
+
+        for(int i=0;i<bufferCount;i++) {
+            buffers[i] = ByteBuffer.allocateDirect(bufferSize);
+        }
+    }
+
+    /**
+     * Writes an item using the provided encoder. The encoder must fit the
+     * item into the remaining space of the buffer, or throw a
+     * BufferOverflowException to have it retried with an empty buffer.
+     */
+    public <T> void write(T item, BiConsumer<T, ByteBuffer> encoder) {
+        ByteBuffer buffer = buffers[current];
+        int position = buffer.position();
+
+        try {
+            encoder.accept(item, buffer);
+            return;
+        } catch (BufferOverflowException e) {
+            ((Buffer) buffer).position(position);
+        }
+
+        next();
+
+        try {
+            encoder.accept(item, buffers[current]);
+        } catch (BufferOverflowException e) {
+            throw new IllegalArgumentException("Item does not fit into the write buffer.", e);
+        }
+    }
+
+    /**
+     * Writes text using the provided charset. Text can be longer than the
+     * buffers, and surrogate pairs can be split between calls. Encoding is
+     * completed by flush().
+     */
+    public void write(CharSequence text, Charset charset) {
+        if(encoder == null || !encoder.charset().equals(charset)) {
+            finishEncoding();
+            encoder = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        CharBuffer chars = pending == null ? CharBuffer.wrap(text) : CharBuffer.wrap(pending + text);
+
+        encode(chars, false);
+
+        // Encoders leave an unfinished surrogate pair unconsumed until more input arrives.
+        pending = chars.hasRemaining() ? chars.toString() : null;
+    }
+
+    private void encode(CharBuffer chars, boolean endOfInput) {
+        while(true) {
+            CoderResult result = encoder.encode(chars, buffers[current], endOfInput);
+
+            if(result.isUnderflow()) {
+                return;
+            }
+
+            handle(result);
+        }
+    }
+
+    private void finishEncoding() {
+        if(encoder == null) {
+            return;
+        }
+
+        encode(pending == null ? CharBuffer.allocate(0) : CharBuffer.wrap(pending), true);
+        pending = null;
+
+        while(true) {
+            CoderResult result = encoder.flush(buffers[current]);
+
+            if(result.isUnderflow()) {
+                break;
+            }
+
+            handle(result);
+        }
+
+        encoder.reset();
+    }
+
+    private void handle(CoderResult result) {
+        if(result.isOverflow()) {
+            next();
+        } else {
+            try {
+                result.throwException();
+            } catch (CharacterCodingException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+    }
+
+    /**
+     * Completes the encoding of text and writes the buffered bytes to the
+     * channel.
+     * @return Total number of bytes written.
+     */
+    public long flush() {
+        finishEncoding();
+
+        return drain();
+    }
+
+    private long drain() {
+        for(int i=0;i<=current;i++) {
+            ((Buffer) buffers[i]).flip();
+        }
+
+        try {
+            if(current > 0 && channel instanceof GatheringByteChannel) {
+                GatheringByteChannel gathering = (GatheringByteChannel) channel;
+
+                while(buffers[current].hasRemaining()) {
+                    written += gathering.write(buffers, 0, current + 1);
+                }
+            } else {
+                for(int i=0;i<=current;i++) {
+                    while(buffers[i].hasRemaining()) {
+                        written += channel.write(buffers[i]);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        for(int i=0;i<=current;i++) {
+            ((Buffer) buffers[i]).clear();
+        }
+        current = 0;
+
+        return written;
+    }
+
+    private void next() {
+        if(current < buffers.length - 1) {
+            current++;
+        } else {
+            drain();
+        }
+    }
+}
@@ -23,7 +23,7 @@ public class ConcatIterator<T> implements Iterator<T> {
             currentIterator = iterators.next();
         }
 
-        return currentIterator.hasNext();
+        return currentIterator != null && currentIterator.hasNext();
     }
 
     @Override
@@ -0,0 +1,560 @@
+package com.github.saulis.enumerables;
+
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
+import java.util.function.*;
+
+/**
+ * Enumerable specialized for doubles. Items are never boxed unless they are
+ * mapped back into objects using boxed() or mapToObj().
+ */
+public class DoubleEnumerable {
+    private final Supplier<PrimitiveIterator.OfDouble> iteratorSupplier;
+    private final DoubleTraversal traversal;
+
+    /**
+     * Constructs a new double enumerable object.
+     * @param iteratorSupplier Supplier function that will return new iterators.
+     */
+    public DoubleEnumerable(Supplier<PrimitiveIterator.OfDouble> iteratorSupplier) {
+        this(iteratorSupplier, sink -> {
+            PrimitiveIterator.OfDouble iterator = iteratorSupplier.get();
+
+            while(!sink.isDone() && iterator.hasNext()) {
+                sink.accept(iterator.nextDouble());
+            }
+        });
+    }
+
+    DoubleEnumerable(Supplier<PrimitiveIterator.OfDouble> iteratorSupplier, DoubleTraversal traversal) {
+        this.iteratorSupplier = iteratorSupplier;
+        this.traversal = traversal;
+    }
+
+    /**
+     * Constructs an empty double enumerable.
+     */
+    public static DoubleEnumerable empty() {
+        return of();
+    }
+
+    /**
+     * Constructs a new double enumerable from an arbitrary number of items.
+     */
+    public static DoubleEnumerable of(double... items) {
+        return new DoubleEnumerable(() -> new PrimitiveIterator.OfDouble() {
+            private int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < items.length;
+            }
+
+            @Override
+            public double nextDouble() {
+                return items[cursor++];
+            }
+        }, sink -> {
+            for(int i=0;i<items.length && !sink.isDone();i++) {
+                sink.accept(items[i]);
+            }
+        });
+    }
+
+    /**
+     * Maps the items of an enumerable into doubles.
+     */
+    static <T> DoubleEnumerable of(Enumerable<T> enumerable, ToDoubleFunction<T> mappingFunction) {
+        return new DoubleEnumerable(() -> {
+            Iterator<T> iterator = enumerable.iterator();
+
+            return new PrimitiveIterator.OfDouble() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public double nextDouble() {
+                    return mappingFunction.applyAsDouble(iterator.next());
+                }
+            };
+        }, sink -> enumerable.traverse(new Sink<T>() {
+            @Override
+            public void accept(T t) {
+                sink.accept(mappingFunction.applyAsDouble(t));
+            }
+
+            @Override
+            public boolean isDone() {
+                return sink.isDone();
+            }
+        }));
+    }
+
+    /**
+     * Checks if all items match the provided predicate.
+     */
+    public boolean allMatch(DoublePredicate predicate) {
+        return filter(predicate.negate()).isEmpty();
+    }
+
+    /**
+     * Checks if any item matches the provided predicate.
+     */
+    public boolean anyMatch(DoublePredicate predicate) {
+        return !filter(predicate).isEmpty();
+    }
+
+    /**
+     * Reduces the enumerable into an average.
+     *
+     * Forces iteration.
+     */
+    public OptionalDouble average() {
+        DoubleSummaryStatistics statistics = summaryStatistics();
+
+        if(statistics.getCount() == 0) {
+            return OptionalDouble.empty();
+        }
+
+        return OptionalDouble.of(statistics.getAverage());
+    }
+
+    /**
+     * Boxes the items and returns them as a new enumerable.
+     */
+    public Enumerable<Double> boxed() {
+        return mapToObj(x -> x);
+    }
+
+    /**
+     * Copies the items into direct memory outside of the heap. The copy can
+     * be iterated multiple times without boxing and should be closed when
+     * it is no longer needed.
+     *
+     * Forces iteration.
+     */
+    public OffHeapDoubles copyOffHeap() {
+        return OffHeapDoubles.copy(traversal);
+    }
+
+    /**
+     * Returns the size of the enumerable.
+     *
+     * Forces iteration.
+     */
+    public int count() {
+        int[] count = { 0 };
+        traversal.traverse(x -> count[0]++);
+
+        return count[0];
+    }
+
+    /**
+     * Returns a new enumerable containing only the first occurrence of each
+     * item.
+     */
+    public DoubleEnumerable distinct() {
+        return distinct(16);
+    }
+
+    /**
+     * Returns a new enumerable containing only the first occurrence of each
+     * item.
+     * @param expectedSize Expected number of distinct items, used for presizing.
+     */
+    public DoubleEnumerable distinct(int expectedSize) {
+        return new DoubleEnumerable(() -> filter(distinctFilter(expectedSize)).iterator(),
+                sink -> filter(distinctFilter(expectedSize)).traversal.traverse(sink));
+    }
+
+    /**
+     * Items are compared by their bits like Double.equals() does, so all NaNs
+     * are equal and 0.0 differs from -0.0.
+     */
+    private static DoublePredicate distinctFilter(int expectedSize) {
+        LongHashSet seen = new LongHashSet(expectedSize);
+
+        return x -> seen.add(Double.doubleToLongBits(x));
+    }
+
+    /**
+     * Returns a new enumerable containing only items that match the provided predicate.
+     */
+    public DoubleEnumerable filter(DoublePredicate predicate) {
+        return new DoubleEnumerable(() -> {
+            PrimitiveIterator.OfDouble iterator = iterator();
+
+            return new PrimitiveIterator.OfDouble() {
+                private boolean hasNextItem = false;
+                private double nextItem;
+
+                @Override
+                public boolean hasNext() {
+                    while(!hasNextItem && iterator.hasNext()) {
+                        nextItem = iterator.nextDouble();
+                        hasNextItem = predicate.test(nextItem);
+                    }
+
+                    return hasNextItem;
+                }
+
+                @Override
+                public double nextDouble() {
+                    if(!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    hasNextItem = false;
+
+                    return nextItem;
+                }
+            };
+        }, sink -> traversal.traverse(DoubleSink.chain(sink, x -> {
+            if(predicate.test(x)) {
+                sink.accept(x);
+            }
+        })));
+    }
+
+    /**
+     * Tries to return the first item of the enumerable.
+     */
+    public OptionalDouble findFirst() {
+        PrimitiveIterator.OfDouble iterator = iterator();
+
+        if(iterator.hasNext()) {
+            return OptionalDouble.of(iterator.nextDouble());
+        }
+
+        return OptionalDouble.empty();
+    }
+
+    /**
+     * Iterates through all the items an performs the provided action.
+     */
+    public void forEach(DoubleConsumer consumer) {
+        traversal.traverse(consumer::accept);
+    }
+
+    /**
+     * Checks if the enumerable is empty.
+     */
+    public boolean isEmpty() {
+        return !iterator().hasNext();
+    }
+
+    public PrimitiveIterator.OfDouble iterator() {
+        return iteratorSupplier.get();
+    }
+
+    /**
+     * Limits the size of the enumerable to the provided length and returns the
+     * resulting items as a new enumerable.
+     */
+    public DoubleEnumerable limit(long maxSize) {
+        return new DoubleEnumerable(() -> {
+            PrimitiveIterator.OfDouble iterator = iterator();
+
+            return new PrimitiveIterator.OfDouble() {
+                private long cursor = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return cursor < maxSize && iterator.hasNext();
+                }
+
+                @Override
+                public double nextDouble() {
+                    cursor++;
+                    return iterator.nextDouble();
+                }
+            };
+        }, sink -> {
+            long[] cursor = { 0 };
+
+            traversal.traverse(new DoubleSink() {
+                @Override
+                public void accept(double value) {
+                    cursor[0]++;
+                    sink.accept(value);
+                }
+
+                @Override
+                public boolean isDone() {
+                    return cursor[0] >= maxSize || sink.isDone();
+                }
+            });
+        });
+    }
+
+    /**
+     * Maps the items using the provided mapping function and returns the
+     * resulting items as a new enumerable.
+     */
+    public DoubleEnumerable map(DoubleUnaryOperator mappingFunction) {
+        return new DoubleEnumerable(() -> {
+            PrimitiveIterator.OfDouble iterator = iterator();
+
+            return new PrimitiveIterator.OfDouble() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public double nextDouble() {
+                    return mappingFunction.applyAsDouble(iterator.nextDouble());
+                }
+            };
+        }, sink -> traversal.traverse(DoubleSink.chain(sink,
+                x -> sink.accept(mappingFunction.applyAsDouble(x)))));
+    }
+
+    /**
+     * Maps the items into objects using the provided mapping function and
+     * returns the resulting items as a new enumerable.
+     */
+    public <R> Enumerable<R> mapToObj(DoubleFunction<R> mappingFunction) {
+        return new Enumerable<>(() -> {
+            PrimitiveIterator.OfDouble iterator = iterator();
+
+            return new Iterator<R>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public R next() {
+                    return mappingFunction.apply(iterator.nextDouble());
+                }
+            };
+        }, sink -> traversal.traverse(new DoubleSink() {
+            @Override
+            public void accept(double value) {
+                sink.accept(mappingFunction.apply(value));
+            }
+
+            @Override
+            public boolean isDone() {
+                return sink.isDone();
+            }
+        }));
+    }
+
+    /**
+     * Finds the maximum of the items.
+     *
+     * Forces iteration.
+     */
+    public OptionalDouble max() {
+        DoubleSummaryStatistics statistics = summaryStatistics();
+
+        if(statistics.getCount() == 0) {
+            return OptionalDouble.empty();
+        }
+
+        return OptionalDouble.of(statistics.getMax());
+    }
+
+    /**
+     * Finds the minimum of the items.
+     *
+     * Forces iteration.
+     */
+    public OptionalDouble min() {
+        DoubleSummaryStatistics statistics = summaryStatistics();
+
+        if(statistics.getCount() == 0) {
+            return OptionalDouble.empty();
+        }
+
+        return OptionalDouble.of(statistics.getMin());
+    }
+
+    /**
+     * Checks if none of the items match the provided predicate.
+     */
+    public boolean noneMatch(DoublePredicate predicate) {
+        return filter(predicate).isEmpty();
+    }
+
+    /**
+     * Reduces the enumerable into a single value using the provided accumulator
+     * function.
+     *
+     * Forces iteration.
+     */
+    public double reduce(double seed, DoubleBinaryOperator function) {
+        double[] result = { seed };
+        traversal.traverse(x -> result[0] = function.applyAsDouble(result[0], x));
+
+        return result[0];
+    }
+
+    /**
+     * Skips a number of items in the enumerable and returns the remaining items
+     * as a new enumerable.
+     */
+    public DoubleEnumerable skip(long n) {
+        return new DoubleEnumerable(() -> {
+            PrimitiveIterator.OfDouble iterator = iterator();
+
+            return new PrimitiveIterator.OfDouble() {
+                private long cursor = 0;
+
+                @Override
+                public boolean hasNext() {
+                    while(cursor < n && iterator.hasNext()) {
+                        cursor++;
+                        iterator.nextDouble();
+                    }
+
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public double nextDouble() {
+                    hasNext();
+                    return iterator.nextDouble();
+                }
+            };
+        }, sink -> {
+            long[] cursor = { 0 };
+
+            traversal.traverse(DoubleSink.chain(sink, x -> {
+                if(cursor[0] < n) {
+                    cursor[0]++;
+                } else {
+                    sink.accept(x);
+                }
+            }));
+        });
+    }
+
+    /**
+     * Reduces the enumerable into a sum.
+     *
+     * Forces iteration.
+     */
+    public double sum() {
+        return summaryStatistics().getSum();
+    }
+
+    /**
+     * Reduces the enumerable into count, sum, min, max and average in a
+     * single iteration.
+     *
+     * Forces iteration.
+     */
+    public DoubleSummaryStatistics summaryStatistics() {
+        DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+        traversal.traverse(statistics::accept);
+
+        return statistics;
+    }
+
+    /**
+     * Returns the averages of windows of the provided size, moving the
+     * window by the provided step. Only complete windows are returned.
+     */
+    public DoubleEnumerable windowAverage(int size, int step) {
+        return window(size, step, () -> new SumWindow(size)).map(x -> x / size);
+    }
+
+    /**
+     * Returns the maximums of windows of the provided size, moving the
+     * window by the provided step. Only complete windows are returned.
+     */
+    public DoubleEnumerable windowMax(int size, int step) {
+        return window(size, step, () -> new MinMaxWindow(size, true));
+    }
+
+    /**
+     * Returns the minimums of windows of the provided size, moving the
+     * window by the provided step. Only complete windows are returned.
+     */
+    public DoubleEnumerable windowMin(int size, int step) {
+        return window(size, step, () -> new MinMaxWindow(size, false));
+    }
+
+    /**
+     * Returns the sums of windows of the provided size, moving the window
+     * by the provided step. Only complete windows are returned.
+     */
+    public DoubleEnumerable windowSum(int size, int step) {
+        return window(size, step, () -> new SumWindow(size));
+    }
+
+    private DoubleEnumerable window(int size, int step, Supplier<DoubleWindow> windowSupplier) {
+        WindowIterator.checkWindow(size, step);
+
+        return new DoubleEnumerable(() -> {
+            PrimitiveIterator.OfDouble iterator = iterator();
+            DoubleWindow window = windowSupplier.get();
+
+            return new PrimitiveIterator.OfDouble() {
+                private long cursor = 0;
+                private boolean hasNextItem = false;
+                private double nextItem;
+
+                @Override
+                public boolean hasNext() {
+                    while(!hasNextItem && iterator.hasNext()) {
+                        window.add(iterator.nextDouble());
+
+                        if(WindowIterator.isWindowEnd(cursor++, size, step)) {
+                            nextItem = window.get();
+                            hasNextItem = true;
+                        }
+                    }
+
+                    return hasNextItem;
+                }
+
+                @Override
+                public double nextDouble() {
+                    if(!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    hasNextItem = false;
+
+                    return nextItem;
+                }
+            };
+        }, sink -> {
+            DoubleWindow window = windowSupplier.get();
+            long[] cursor = { 0 };
+
+            traversal.traverse(DoubleSink.chain(sink, x -> {
+                window.add(x);
+
+                if(WindowIterator.isWindowEnd(cursor[0]++, size, step)) {
+                    sink.accept(window.get());
+                }
+            }));
+        });
+    }
+
+    /**
+     * Collects the enumerable into an array.
+     */
+    public double[] toArray() {
+        double[][] array = { new double[16] };
+        int[] size = { 0 };
+
+        traversal.traverse(x -> {
+            if(size[0] == array[0].length) {
+                array[0] = Arrays.copyOf(array[0], size[0] * 2);
+            }
+            array[0][size[0]++] = x;
+        });
+
+        return Arrays.copyOf(array[0], size[0]);
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.saulis.enumerables;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * Receives doubles pushed by a DoubleTraversal without boxing them.
+ */
+public interface DoubleSink extends DoubleConsumer {
+
+    /**
+     * Tells the traversal that no more items are needed.
+     */
+    default boolean isDone() {
+        return false;
+    }
+
+    /**
+     * Returns a sink that performs the provided action and is done when the
+     * downstream sink is done.
+     */
+    static DoubleSink chain(DoubleSink downstream, DoubleConsumer action) {
+        return new DoubleSink() {
+            @Override
+            public void accept(double value) {
+                action.accept(value);
+            }
+
+            @Override
+            public boolean isDone() {
+                return downstream.isDone();
+            }
+        };
+    }
+}
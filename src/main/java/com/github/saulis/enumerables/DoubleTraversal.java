@@ -0,0 +1,10 @@
+package com.github.saulis.enumerables;
+
+/**
+ * Pushes all the doubles of a DoubleEnumerable into a sink, stopping early when
+ * the sink is done.
+ */
+@FunctionalInterface
+public interface DoubleTraversal {
+    void traverse(DoubleSink sink);
+}
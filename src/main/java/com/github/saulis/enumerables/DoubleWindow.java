@@ -0,0 +1,17 @@
+package com.github.saulis.enumerables;
+
+/**
+ * Incrementally aggregated window over the latest doubles.
+ */
+public interface DoubleWindow {
+
+    /**
+     * Adds an item to the window, removing the oldest item if the window is full.
+     */
+    void add(double value);
+
+    /**
+     * Returns the aggregate of the items in the window.
+     */
+    double get();
+}
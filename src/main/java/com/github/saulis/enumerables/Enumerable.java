@@ -1,27 +1,85 @@
 package com.github.saulis.enumerables;
 
 import java.lang.reflect.Array;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.*;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class Enumerable<T> implements Iterable<T> {
+    private static final int JOIN_BLOCK_SIZE = 8192;
+
     private final Supplier<Iterator<T>> iteratorSupplier;
+    private final Traversal<T> traversal;
+    private final Supplier<Spliterator<T>> spliteratorSupplier;
+    private final Capabilities<T> capabilities;
+    private final ForkJoinPool pool;
 
     /**
      * Constructs a new enumerable object.
      * @param iteratorSupplier Supplier function that will return new iterators.
      */
     public Enumerable(Supplier<Iterator<T>> iteratorSupplier) {
+        this(iteratorSupplier, new IteratorTraversal<>(iteratorSupplier));
+    }
+
+    /**
+     * Constructs a new enumerable object that can also push its items
+     * into a sink. Terminal operations use the traversal instead of the iterator.
+     */
+    Enumerable(Supplier<Iterator<T>> iteratorSupplier, Traversal<T> traversal) {
+        this(iteratorSupplier, traversal, () ->
+                Spliterators.spliteratorUnknownSize(iteratorSupplier.get(), Spliterator.ORDERED));
+    }
+
+    /**
+     * Constructs a new enumerable object that can also be split for
+     * parallel execution.
+     */
+    Enumerable(Supplier<Iterator<T>> iteratorSupplier, Traversal<T> traversal,
+               Supplier<Spliterator<T>> spliteratorSupplier) {
+        this(iteratorSupplier, traversal, spliteratorSupplier, Capabilities.none());
+    }
+
+    /**
+     * Constructs a new enumerable object with known source capabilities,
+     * which are used to answer size and lookup queries without iterating.
+     */
+    Enumerable(Supplier<Iterator<T>> iteratorSupplier, Traversal<T> traversal,
+               Supplier<Spliterator<T>> spliteratorSupplier, Capabilities<T> capabilities) {
+        this(iteratorSupplier, traversal, spliteratorSupplier, capabilities, null);
+    }
+
+    Enumerable(Supplier<Iterator<T>> iteratorSupplier, Traversal<T> traversal,
+               Supplier<Spliterator<T>> spliteratorSupplier, Capabilities<T> capabilities,
+               ForkJoinPool pool) {
         this.iteratorSupplier = iteratorSupplier;
+        this.traversal = traversal;
+        this.spliteratorSupplier = spliteratorSupplier;
+        this.capabilities = capabilities;
+        this.pool = pool;
     }
 
     /**
      * Constructs an empty enumerable.
      */
     public static <T> Enumerable<T> empty() {
-        return new Enumerable<>(() -> new EmptyIterator<>());
+        return new Enumerable<>(() -> new EmptyIterator<>(), sink -> {},
+                () -> Spliterators.emptySpliterator(), Capabilities.of(() -> 0, i -> null));
     }
 
     /**
@@ -30,14 +88,16 @@ public class Enumerable<T> implements Iterable<T> {
      * Use copy() and copyOf() to avoid this.
      */
     public static <T> Enumerable<T> of(Iterable<T> items) {
-        return new Enumerable<>(() -> items.iterator());
+        return new Enumerable<>(() -> items.iterator(), new IteratorTraversal<>(() -> items.iterator()),
+                () -> items.spliterator(), Capabilities.of(items));
     }
 
     /**
      * Constructs a new enumerable from an arbitrary number of items.
      */
     public static <T> Enumerable<T> of(T... items) {
-        return new Enumerable<>(() -> new ArrayIterator<>(items));
+        return new Enumerable<>(() -> new ArrayIterator<>(items), new ArrayTraversal<>(items),
+                () -> Arrays.spliterator(items), Capabilities.of(items));
     }
 
     /**
@@ -48,6 +108,88 @@ public class Enumerable<T> implements Iterable<T> {
         return of(items).copy();
     }
 
+    /**
+     * Constructs a new enumerable from the lines of a UTF-8 encoded file.
+     * @see #lines(Path, Charset)
+     */
+    public static Enumerable<Line> lines(Path path) {
+        return lines(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Constructs a new enumerable from the lines of a file. The file is
+     * memory-mapped in chunks instead of being read into the heap, and lines
+     * are returned as views into the file. The charset must encode line
+     * breaks as single bytes, like UTF-8 and ISO-8859-1 do.
+     *
+     * The same view is reused for every line, so lines that need to be kept
+     * have to be copied using toString(), for example after filtering.
+     */
+    public static Enumerable<Line> lines(Path path, Charset charset) {
+        Supplier<Iterator<Line>> iteratorSupplier = () -> new LineIterator(path, charset);
+
+        // Parallel streams buffer items, so they get views that are not reused.
+        return new Enumerable<>(iteratorSupplier, new IteratorTraversal<>(iteratorSupplier),
+                () -> Spliterators.spliteratorUnknownSize(new MapIterator<>(iteratorSupplier::get, Line::detach),
+                        Spliterator.ORDERED | Spliterator.NONNULL));
+    }
+
+    /**
+     * Constructs a new enumerable from a file of fixed-width big-endian
+     * binary records.
+     * @see #records(Path, int, ByteOrder)
+     */
+    public static Enumerable<Record> records(Path path, int recordSize) {
+        return records(path, recordSize, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Constructs a new enumerable from a file of fixed-width binary records.
+     * The file is memory-mapped and records are read through accessors that
+     * read their fields directly from the file.
+     *
+     * The same accessor is reused for every record of an iteration, also
+     * after skip, limit, slice or reverse, so fields that need to be kept have
+     * to be read out of it, or the record detached. In parallel mode the file
+     * is split by record ranges and each split reuses an accessor of its own.
+     * Only random access with elementAt returns a separate accessor.
+     */
+    public static Enumerable<Record> records(Path path, int recordSize, ByteOrder order) {
+        RecordFile file = new RecordFile(path, recordSize, order);
+        Capabilities<Record> capabilities = Capabilities.of(file::count, file::get, () -> {
+            Record record = new Record();
+
+            return i -> {
+                file.set(record, i);
+
+                return record;
+            };
+        });
+
+        return new Enumerable<>(() -> new RecordIterator(file), sink -> {
+            Record record = new Record();
+            long count = file.count();
+
+            for(long i=0;i<count && !sink.isDone();i++) {
+                file.set(record, i);
+                sink.accept(record);
+            }
+        }, () -> new IndexSpliterator<>(capabilities), capabilities);
+    }
+
+    /**
+     * Runs multiple collectors during a single iteration, for example
+     * counting, summing and averaging the items at the same time. Stream
+     * collectors like Collectors.counting() or Collectors.summarizingDouble()
+     * keep their state in primitive containers and can be combined in
+     * parallel mode.
+     *
+     * Forces iteration, but iterates only once.
+     */
+    public Aggregates aggregate(Collector<? super T, ?, ?>... collectors) {
+        return collect(new MultiCollector<T>(collectors));
+    }
+
     /**
      * Checks if all items match the provided predicate.
      */
@@ -70,30 +212,69 @@ public class Enumerable<T> implements Iterable<T> {
      * As with all reduction functions, average will force iteration.
      */
     public <R extends Number> Optional<Double> average(Function<T, R> mappingFunction) {
-        if(isEmpty()) {
+        OptionalDouble average = mapToDouble(x -> mappingFunction.apply(x).doubleValue()).average();
+
+        if(!average.isPresent()) {
             return Optional.empty();
         }
 
-        Accumulator<R, Double> sumAccumulator = new Accumulator<>(0.0, (acc, x) -> acc + x.doubleValue());
-        Accumulator<R, Double> countAccumulator = new Accumulator<>(0.0, (acc, x) -> acc + 1.0);
+        return Optional.of(average.getAsDouble());
+    }
+
+    /**
+     * Collects the items into lists of the provided size. The last batch
+     * holds the remaining items and can be smaller.
+     */
+    public Enumerable<List<T>> batch(int size) {
+        return batch(size, false);
+    }
 
-        List<Double> sumAndCount = map(mappingFunction).reduce(sumAccumulator, countAccumulator);
+    /**
+     * Collects the items into lists of the provided size. The last batch
+     * holds the remaining items and can be smaller.
+     * @param reuseBuffer If true, every batch is the same list which is
+     *                    refilled for the next batch. Batches must then be
+     *                    consumed before moving to the next one.
+     */
+    public Enumerable<List<T>> batch(int size, boolean reuseBuffer) {
+        if(size <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive.");
+        }
 
-        return Optional.of(sumAndCount.get(0) / sumAndCount.get(1));
+        return derive(new Enumerable<>(() -> new BatchIterator<>(this, size, reuseBuffer),
+                sink -> {
+                    BatchSink<T> batches = new BatchSink<>(sink, size, reuseBuffer);
+                    traversal.traverse(batches);
+                    batches.flush();
+                },
+                // Parallel streams buffer items, so batches are never reused there.
+                () -> Spliterators.spliteratorUnknownSize(new BatchIterator<>(this, size, false), Spliterator.ORDERED),
+                capabilities.batch(size)));
     }
 
     /**
      * Collects the enumerable. Stream collector objects can be used for collecting.
      */
-    public <R, A> R collect(Collector<T, A, R> collector) {
+    public <R, A> R collect(Collector<? super T, A, R> collector) {
+        if(isParallel()) {
+            return runParallel(() -> {
+                try(Stream<T> stream = stream()) {
+                    return stream.collect(collector);
+                }
+            });
+        }
+
         Supplier<A> supplier = collector.supplier();
-        BiConsumer<A, T> accumulator = collector.accumulator();
-        Function<A, R> finisher = collector.finisher();
+        BiConsumer<A, ? super T> accumulator = collector.accumulator();
 
         A container = supplier.get();
         forEach(x -> accumulator.accept(container, x));
 
-        return finisher.apply(container);
+        if(collector.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH)) {
+            return (R) container;
+        }
+
+        return collector.finisher().apply(container);
     }
 
     /**
@@ -101,7 +282,7 @@ public class Enumerable<T> implements Iterable<T> {
      * resulting items as a new enumerable.
      */
     public Enumerable<T> concat(T... items) {
-        return new Enumerable<>(() -> new ConcatIterator(this.iterator(), new ArrayIterator<>(items)));
+        return derive(new Enumerable<>(() -> new ConcatIterator(this.iterator(), new ArrayIterator<>(items))));
     }
 
     /**
@@ -109,13 +290,17 @@ public class Enumerable<T> implements Iterable<T> {
      * resulting items as a new enumerable.
      */
     public Enumerable<T> concat(Iterable<T> items) {
-        return new Enumerable<>(() -> new ConcatIterator(this.iterator(), items.iterator()));
+        return derive(new Enumerable<>(() -> new ConcatIterator(this.iterator(), items.iterator())));
     }
 
     /**
      * Checks if the enumerable contains the provided item.
      */
     public boolean contains(T item) {
+        if(capabilities.hasCollection()) {
+            return capabilities.getCollection().contains(item);
+        }
+
         return anyMatch(x -> x.equals(item));
     }
 
@@ -125,56 +310,148 @@ public class Enumerable<T> implements Iterable<T> {
      * Forces iteration.
      */
     public Enumerable<T> copy() {
-        LinkedList<T> list = new LinkedList<>();
+        List<T> list = capabilities.hasSize() ? new ArrayList<>((int) capabilities.size()) : new ArrayList<>();
         forEach(x -> list.add(x));
 
-        return new Enumerable<>(() -> list.iterator());
+        return derive(of(list));
     }
 
     /**
      * Returns the size of the enumerable.
      *
-     * Forces iteration, like any other reduce function.
+     * Forces iteration, like any other reduce function, unless the size of
+     * the source is known.
+     * @throws ArithmeticException if there are more than Integer.MAX_VALUE
+     *         items.
      */
     public int count() {
-        return reduce(0, (acc, x) -> acc + 1);
+        if(capabilities.hasSize()) {
+            return Math.toIntExact(capabilities.size());
+        }
+
+        if(isParallel()) {
+            return runParallel(() -> {
+                try(Stream<T> stream = stream()) {
+                    return Math.toIntExact(stream.count());
+                }
+            });
+        }
+
+        return Math.toIntExact(reduce(0L, (acc, x) -> acc + 1));
+    }
+
+    /**
+     * Returns a new enumerable containing only the first occurrence of each
+     * item. Items are compared using equals().
+     */
+    public Enumerable<T> distinct() {
+        return distinctBy(x -> x);
+    }
+
+    /**
+     * Returns a new enumerable containing only the first occurrence of each
+     * item.
+     * @param expectedSize Expected number of distinct items, used for presizing.
+     */
+    public Enumerable<T> distinct(int expectedSize) {
+        return distinctBy(x -> x, expectedSize);
+    }
+
+    /**
+     * Returns a new enumerable containing only the first item for each key
+     * returned by the provided key function.
+     */
+    public <K> Enumerable<T> distinctBy(Function<T, K> keyFunction) {
+        return distinctBy(keyFunction, 16);
+    }
+
+    /**
+     * Returns a new enumerable containing only the first item for each key
+     * returned by the provided key function.
+     * @param expectedSize Expected number of distinct keys, used for presizing.
+     */
+    public <K> Enumerable<T> distinctBy(Function<T, K> keyFunction, int expectedSize) {
+        return derive(new Enumerable<>(
+                () -> new FilterIterator<>(this, distinctFilter(keyFunction, expectedSize)),
+                sink -> traversal.traverse(new FilterSink<>(sink, distinctFilter(keyFunction, expectedSize)))));
+    }
+
+    private static <T, K> Predicate<T> distinctFilter(Function<T, K> keyFunction, int expectedSize) {
+        OpenHashSet<K> seen = new OpenHashSet<>(expectedSize);
+
+        return x -> seen.add(keyFunction.apply(x));
     }
 
     /**
      * Returns a new enumerable containing only items that match the provided predicate.
      */
     public Enumerable<T> filter(Predicate<T> predicate) {
-        return filter((x, i) -> predicate.test(x));
+        return derive(new Enumerable<>(() -> new FilterIterator<>(this, predicate),
+                sink -> traversal.traverse(new FilterSink<>(sink, predicate)),
+                () -> new FilterSpliterator<>(spliterator(), predicate)));
+    }
+
+    /**
+     * Returns a new enumerable containing only items that match the provided predicate.
+     *  Item index can be accessed using the long argument in the predicate.
+     */
+    public Enumerable<T> filter(IndexedPredicate<T> predicate) {
+        return derive(new Enumerable<>(() -> new IndexedFilterIterator<>(this, predicate),
+                sink -> traversal.traverse(new IndexedFilterSink<>(sink, predicate))));
     }
 
     /**
      * Returns a new enumerable containing only items that match the provided predicate.
      *  Item index can be accessed using the integer argument in the predicate.
+     *
+     * @deprecated Boxes the index of every item, use {@link #filter(IndexedPredicate)}.
      */
-    public Enumerable<T> filter(BiPredicate<T,Integer> predicate) {
-        return new Enumerable<>(() -> new FilterIterator<>(this, predicate));
+    @Deprecated
+    public Enumerable<T> filter(BiPredicate<T, Integer> predicate) {
+        return filter(toIndexed(predicate));
     }
 
     /**
-     * Tries to return the first item of the enumerable.
+     * Tries to return the item at the provided index.
+     *
+     * Iterates up to the index, unless the items can be accessed by index.
      */
-    public Optional<T> findFirst() {
-        Iterator<T> iterator = iterator();
+    public Optional<T> elementAt(long index) {
+        if(index < 0) {
+            return Optional.empty();
+        }
 
-        if(iterator.hasNext()) {
-            return Optional.of(iterator.next());
+        if(capabilities.isRandomAccess()) {
+            return index < capabilities.size() ? Optional.of(capabilities.get(index)) : Optional.empty();
         }
 
-        return Optional.empty();
+        return skip(index).findFirst();
+    }
+
+    /**
+     * Tries to return the first item of the enumerable.
+     */
+    public Optional<T> findFirst() {
+        LastSink<T> first = new LastSink<>();
+        traversal.traverse(new LimitSink<>(first, 1));
+
+        return first.getResult();
     }
 
     /**
      * Tries to return the last item of the enumerable.
      *
-     * Uses ordering, which forces iteration.
+     * Forces iteration, unless the items can be accessed by index.
      */
     public Optional<T> findLast() {
-        return reverse().findFirst();
+        if(capabilities.isRandomAccess()) {
+            return elementAt(capabilities.size() - 1);
+        }
+
+        LastSink<T> sink = new LastSink<>();
+        traversal.traverse(sink);
+
+        return sink.getResult();
     }
 
     /**
@@ -195,20 +472,49 @@ public class Enumerable<T> implements Iterable<T> {
      * resulting items as a new enumerable.
      */
     public <R> Enumerable<R> flatMap(Function<T, R[]> mappingFunction) {
-        Iterator<ArrayIterator<R>> iterator =
-                map(x -> new ArrayIterator<>(mappingFunction.apply(x))).iterator();
+        return flatMapIterable(x -> Arrays.asList(mappingFunction.apply(x)));
+    }
 
-        return new Enumerable<>(() -> new ConcatIterator<>(iterator));
+    /**
+     * Flattens the items with the provided mapping function returning
+     * iterables, such as collections or other enumerables, and returns the
+     * resulting items as a new enumerable.
+     */
+    public <R> Enumerable<R> flatMapIterable(Function<T, ? extends Iterable<R>> mappingFunction) {
+        return derive(new Enumerable<>(() -> new FlatMapIterator<>(this, mappingFunction),
+                sink -> traversal.traverse(new FlatMapSink<>(sink, mappingFunction))));
     }
 
     /**
      * Iterates through all the items an performs the provided actions.
      */
-    public void forEach(BiConsumer<T, Integer> consumer) {
-        int i = 0;
+    @Override
+    public void forEach(Consumer<? super T> consumer) {
+        traversal.traverse(x -> consumer.accept(x));
+    }
+
+    /**
+     * Iterates through all the items an performs the provided actions. Item
+     * index can be accessed using the long argument in the consumer.
+     */
+    public void forEach(IndexedConsumer<T> consumer) {
+        long[] i = { 0 };
+
+        traversal.traverse(x -> consumer.accept(x, i[0]++));
+    }
 
-        for (T t : this) {
-            consumer.accept(t, i++);
+    /**
+     * Iterates through all the items an performs the provided actions. Item
+     * index can be accessed using the integer argument in the consumer.
+     *
+     * @deprecated Boxes the index of every item, use {@link #forEach(IndexedConsumer)}.
+     */
+    @Deprecated
+    public void forEach(BiConsumer<T, Integer> consumer) {
+        if(consumer instanceof IndexedConsumer) {
+            forEach((IndexedConsumer<T>) consumer);
+        } else {
+            forEach((IndexedConsumer<T>) (x, i) -> consumer.accept(x, (int) i));
         }
     }
 
@@ -219,6 +525,76 @@ public class Enumerable<T> implements Iterable<T> {
         return collect(Collectors.groupingBy(classifier));
     }
 
+    /**
+     * Groups the items according to the provided classifier and aggregates
+     * each group using the provided collector. Only one collector container
+     * is kept per key. Returns the keys and results in the order the keys
+     * were first found.
+     *
+     * Items are grouped once per iteration.
+     */
+    public <K, A, R> Enumerable<Map.Entry<K, R>> groupBy(Function<T, K> classifier,
+                                                        Collector<? super T, A, R> aggregator) {
+        return groupBy(classifier, aggregator, 16);
+    }
+
+    /**
+     * Groups the items according to the provided classifier and aggregates
+     * each group using the provided collector.
+     * @param expectedKeys Expected number of keys, used for presizing.
+     */
+    public <K, A, R> Enumerable<Map.Entry<K, R>> groupBy(Function<T, K> classifier,
+                                                        Collector<? super T, A, R> aggregator,
+                                                        int expectedKeys) {
+        int capacity = (int) Math.min(expectedKeys * 4L / 3 + 1, 1 << 30);
+        Supplier<Enumerable<Map.Entry<K, R>>> grouped = () -> of(collect(Collectors.groupingBy(classifier,
+                () -> new LinkedHashMap<>(capacity), aggregator)).entrySet());
+
+        return derive(new Enumerable<>(() -> grouped.get().iterator(), sink -> grouped.get().traverse(sink)));
+    }
+
+    /**
+     * Counts the items per key returned by the provided classifier.
+     */
+    public <K> Enumerable<Map.Entry<K, Long>> countBy(Function<T, K> classifier) {
+        return groupBy(classifier, Collectors.counting());
+    }
+
+    /**
+     * Sums the values returned by the provided mapping function per key
+     * returned by the provided classifier.
+     */
+    public <K> Enumerable<Map.Entry<K, Double>> sumBy(Function<T, K> classifier,
+                                                      ToDoubleFunction<T> mappingFunction) {
+        return groupBy(classifier, Collectors.summingDouble(mappingFunction));
+    }
+
+    /**
+     * Correlates the items with the items of another enumerable by matching
+     * keys and groups the matching items. Every item produces a result, with
+     * an empty enumerable if nothing matches.
+     *
+     * The other enumerable is built into a hash table once per iteration.
+     */
+    public <U, K, R> Enumerable<R> groupJoin(Iterable<U> inner, Function<T, K> outerKey, Function<U, K> innerKey,
+                                             BiFunction<T, Enumerable<U>, R> resultSelector) {
+        Capabilities<U> innerCapabilities = Capabilities.of(inner);
+        Supplier<Enumerable<R>> joined = () -> {
+            JoinTable<K, U> table = HashJoin.buildTable(inner, innerKey, innerCapabilities);
+
+            return map(x -> resultSelector.apply(x, of(table.get(outerKey.apply(x)))));
+        };
+
+        return derive(new Enumerable<>(() -> joined.get().iterator(), sink -> joined.get().traverse(sink)));
+    }
+
+    /**
+     * Checks if the enumerable is in parallel mode.
+     */
+    public boolean isParallel() {
+        return pool != null;
+    }
+
     /**
      * Checks if the enumerable is empty.
      */
@@ -231,12 +607,49 @@ public class Enumerable<T> implements Iterable<T> {
         return iteratorSupplier.get();
     }
 
+    /**
+     * Correlates the items with the items of another enumerable by matching
+     * keys. Returns a result for each matching pair.
+     *
+     * The smaller side is built into a hash table once per iteration and the
+     * other side is streamed. Results follow the order of the streamed side,
+     * which is the outer side unless both sizes are known and the inner side
+     * is larger.
+     */
+    public <U, K, R> Enumerable<R> join(Iterable<U> inner, Function<T, K> outerKey, Function<U, K> innerKey,
+                                        BiFunction<T, U, R> resultSelector) {
+        HashJoin<T, U, K, R> join = new HashJoin<>(this, inner, outerKey, innerKey, resultSelector, false);
+
+        return derive(new Enumerable<>(join::iterator, join::traverse));
+    }
+
+    /**
+     * Correlates the items with the items of another enumerable by matching
+     * keys. Returns a result for each matching pair, and a result with null
+     * as the inner item for items that have no match.
+     *
+     * The inner side is built into a hash table once per iteration.
+     */
+    public <U, K, R> Enumerable<R> leftJoin(Iterable<U> inner, Function<T, K> outerKey, Function<U, K> innerKey,
+                                            BiFunction<T, U, R> resultSelector) {
+        HashJoin<T, U, K, R> join = new HashJoin<>(this, inner, outerKey, innerKey, resultSelector, true);
+
+        return derive(new Enumerable<>(join::iterator, join::traverse));
+    }
+
     /**
      * Limits the size of the enumerable to the provided length and returns the
      * resulting items as a new enumerable.
      */
     public Enumerable<T> limit(long maxSize) {
-        return new Enumerable<>(() -> new LimitIterator(this, maxSize));
+        if(capabilities.isRandomAccess()) {
+            return derive(indexed(capabilities.limit(maxSize)));
+        }
+
+        return derive(new Enumerable<>(() -> new LimitIterator<>(this, maxSize),
+                sink -> traversal.traverse(new LimitSink<>(sink, maxSize)),
+                () -> Spliterators.spliteratorUnknownSize(new LimitIterator<>(this, maxSize), Spliterator.ORDERED),
+                capabilities.limit(maxSize)));
     }
 
     /**
@@ -244,27 +657,129 @@ public class Enumerable<T> implements Iterable<T> {
      * resulting items as a new enumerable.
      */
     public <R> Enumerable<R> map(Function<T, R> mappingFunction) {
-        return new Enumerable<>(() -> new MapIterator<>(this, mappingFunction));
+        return derive(new Enumerable<>(() -> new MapIterator<>(this, mappingFunction),
+                sink -> traversal.traverse(new MapSink<>(sink, mappingFunction)),
+                () -> new MapSpliterator<>(spliterator(), mappingFunction),
+                capabilities.map(mappingFunction)));
+    }
+
+    /**
+     * Maps the items in batches of the provided size using the provided
+     * mapping function and returns the resulting items as a new enumerable.
+     *
+     * The batch list is reused and is only valid during the call.
+     */
+    public <R> Enumerable<R> mapBatch(int size, Function<List<T>, List<R>> mappingFunction) {
+        return batch(size, true).map(mappingFunction).flatMapIterable(x -> x);
+    }
+
+    /**
+     * Maps the items concurrently using the provided mapping function and
+     * returns the resulting items in their original order. At most the
+     * provided number of items are mapped at the same time, on daemon
+     * threads shared by all enumerables.
+     *
+     * Useful when the mapping function blocks or is expensive. Mappings in
+     * flight are cancelled if iteration ends early. An abandoned iterator
+     * leaves at most the provided number of mappings running.
+     */
+    public <R> Enumerable<R> mapParallel(Function<T, R> mappingFunction, int concurrency) {
+        return mapParallel(mappingFunction, concurrency, ParallelMapIterator.DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * Maps the items concurrently on the provided executor and returns the
+     * resulting items in their original order.
+     */
+    public <R> Enumerable<R> mapParallel(Function<T, R> mappingFunction, int concurrency, Executor executor) {
+        return mapParallel(mappingFunction, concurrency, executor, true);
+    }
+
+    /**
+     * Maps the items concurrently using the provided mapping function and
+     * returns the resulting items in the order the mappings complete.
+     */
+    public <R> Enumerable<R> mapParallelUnordered(Function<T, R> mappingFunction, int concurrency) {
+        return mapParallelUnordered(mappingFunction, concurrency, ParallelMapIterator.DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * Maps the items concurrently on the provided executor and returns the
+     * resulting items in the order the mappings complete.
+     */
+    public <R> Enumerable<R> mapParallelUnordered(Function<T, R> mappingFunction, int concurrency,
+                                                  Executor executor) {
+        return mapParallel(mappingFunction, concurrency, executor, false);
+    }
+
+    private <R> Enumerable<R> mapParallel(Function<T, R> mappingFunction, int concurrency, Executor executor,
+                                          boolean ordered) {
+        if(concurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive.");
+        }
+
+        return derive(new Enumerable<>(
+                () -> new ParallelMapIterator<>(this, mappingFunction, concurrency, executor, ordered),
+                sink -> {
+                    try(ParallelMapIterator<T, R> iterator =
+                                new ParallelMapIterator<>(this, mappingFunction, concurrency, executor, ordered)) {
+                        while(!sink.isDone() && iterator.hasNext()) {
+                            sink.accept(iterator.next());
+                        }
+                    }
+                }));
+    }
+
+    /**
+     * Maps the items into doubles using the provided mapping function and
+     * returns the resulting items as a new double enumerable.
+     */
+    public DoubleEnumerable mapToDouble(ToDoubleFunction<T> mappingFunction) {
+        return DoubleEnumerable.of(this, mappingFunction);
+    }
+
+    /**
+     * Maps the items into ints using the provided mapping function and
+     * returns the resulting items as a new int enumerable.
+     */
+    public IntEnumerable mapToInt(ToIntFunction<T> mappingFunction) {
+        return IntEnumerable.of(this, mappingFunction);
+    }
+
+    /**
+     * Maps the items into longs using the provided mapping function and
+     * returns the resulting items as a new long enumerable.
+     */
+    public LongEnumerable mapToLong(ToLongFunction<T> mappingFunction) {
+        return LongEnumerable.of(this, mappingFunction);
     }
 
     /**
      * Finds the maximum of the items using the provided function to map the items
-     * into comparable items first.
+     * into comparable items first. If several items share the maximum, the
+     * first one is returned.
      *
-     * Uses ordering and therefore forces iteration.
+     * Forces iteration, but iterates only once.
      */
     public <R extends Comparable<R>> Optional<T> max(Function<T, R> mappingFunction) {
-        return orderByDescending(mappingFunction).findFirst();
+        MinSink<T, R> sink = new MinSink<>(mappingFunction, Comparator.reverseOrder());
+        traversal.traverse(sink);
+
+        return sink.getResult();
     }
 
     /**
      * Finds the minimum of the items using the provided function to map the items
-     * into comparable items first.
+     * into comparable items first. If several items share the minimum, the
+     * first one is returned.
      *
-     * Uses ordering and therefore forces iteration.
+     * Forces iteration, but iterates only once.
      */
     public <R extends Comparable<R>> Optional<T> min(Function<T, R> mappingFunction) {
-        return orderBy(mappingFunction).findFirst();
+        MinSink<T, R> sink = new MinSink<>(mappingFunction, Comparator.naturalOrder());
+        traversal.traverse(sink);
+
+        return sink.getResult();
     }
 
     /**
@@ -292,12 +807,29 @@ public class Enumerable<T> implements Iterable<T> {
 
     /**
      * Orders the items using the provided comparator and returns the resulting
-     * items as a new enumerable.
+     * items as a new enumerable. Limiting the ordered enumerable keeps only the
+     * limited number of items in memory.
      *
      * Forces iteration when first item is fetched.
      */
     public Enumerable<T> orderBy(Comparator<T> comparator) {
-        return new Enumerable<>(() -> new OrderIterator<>(iterator(), comparator));
+        return new OrderedEnumerable<>(this, comparator);
+    }
+
+    /**
+     * Orders the items using the provided comparator, sorting runs of at most
+     * the configured number of items in memory and spilling them into
+     * temporary files, and returns the resulting items as a new enumerable.
+     * The spilled runs are merged lazily while iterating.
+     *
+     * Forces iteration when first item is fetched. Temporary files are
+     * deleted when the iteration is completed, stopped early by a terminal
+     * operation, or when the iterator or stream is closed. Files of iterators
+     * abandoned by pulling operators are deleted after the iterator has been
+     * garbage collected, or at the latest when the JVM exits.
+     */
+    public Enumerable<T> orderBy(Comparator<T> comparator, SortOptions<T> options) {
+        return new OrderedEnumerable<>(this, comparator, options);
     }
 
     /**
@@ -326,12 +858,51 @@ public class Enumerable<T> implements Iterable<T> {
         return orderBy(comparator.reversed());
     }
 
+    /**
+     * Returns the enumerable in parallel mode. Filter, map, reduce, collect,
+     * count and groupBy will be run in the common ForkJoinPool.
+     */
+    public Enumerable<T> parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns the enumerable in parallel mode. Filter, map, reduce, collect,
+     * count and groupBy will be run in the provided ForkJoinPool.
+     */
+    public Enumerable<T> parallel(ForkJoinPool pool) {
+        return new Enumerable<>(iteratorSupplier, traversal, spliteratorSupplier, capabilities, pool);
+    }
+
     /**
      * Performs the provided action for each item and returns the original items
      * as a new enumerable.
      */
     public Enumerable<T> peek(Consumer<T> consumer) {
-        return new Enumerable<>(() -> new PeekIterator<>(this, consumer));
+        return derive(new Enumerable<>(() -> new PeekIterator<>(this, consumer),
+                sink -> traversal.traverse(new PeekSink<>(sink, consumer))));
+    }
+
+    /**
+     * Iterates the items ahead on a background thread, buffering up to the
+     * provided number of items. Lets a slow source produce items while the
+     * consumer is processing the previous ones.
+     *
+     * Exceptions thrown by the source are rethrown to the consumer. The
+     * background thread stops when iteration ends early.
+     */
+    public Enumerable<T> prefetch(int capacity) {
+        if(capacity <= 0) {
+            throw new IllegalArgumentException("Prefetch capacity must be positive.");
+        }
+
+        return derive(new Enumerable<>(() -> new PrefetchIterator<>(traversal, capacity), sink -> {
+            try(PrefetchIterator<T> iterator = new PrefetchIterator<>(traversal, capacity)) {
+                while(!sink.isDone() && iterator.hasNext()) {
+                    sink.accept(iterator.next());
+                }
+            }
+        }));
     }
 
     /**
@@ -340,12 +911,22 @@ public class Enumerable<T> implements Iterable<T> {
      */
     public static Enumerable<Integer> range(int from, int to) {
         if(from <= to) {
-            return new Enumerable(() -> new FunctionIterator<>(from, x -> x + 1, to - from + 1));
+            return range(() -> new FunctionIterator<>(from, x -> x + 1, to - from + 1), to - from + 1,
+                    i -> (int) (from + i));
         } else {
-            return new Enumerable(() -> new FunctionIterator<>(from, x -> x - 1, from - to + 1));
+            return range(() -> new FunctionIterator<>(from, x -> x - 1, from - to + 1), from - to + 1,
+                    i -> (int) (from - i));
         }
     }
 
+    private static Enumerable<Integer> range(Supplier<Iterator<Integer>> iteratorSupplier, int size,
+                                             LongFunction<Integer> elementAt) {
+        return new Enumerable<>(iteratorSupplier, new IteratorTraversal<>(iteratorSupplier),
+                () -> Spliterators.spliterator(iteratorSupplier.get(), size,
+                        Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE),
+                Capabilities.of(() -> size, elementAt));
+    }
+
     /**
      * Reduces the enumerable into a single value using the provided accumulator
      * function.
@@ -353,37 +934,51 @@ public class Enumerable<T> implements Iterable<T> {
      * Forces iteration.
      */
     public <R> R reduce(R seed, BiFunction<R, T, R> function) {
-        R result = seed;
+        ReduceSink<T, R> sink = new ReduceSink<>(seed, function);
+        traversal.traverse(sink);
 
-        Iterator<T> iterator = iterator();
+        return sink.getResult();
+    }
 
-        while(iterator.hasNext()) {
-            T next = iterator.next();
-            result = function.apply(result, next);
+    /**
+     * Reduces the enumerable into a single value using the provided accumulator
+     * function. Combiner function is used to combine partial results in
+     * parallel mode.
+     *
+     * Forces iteration.
+     */
+    public <R> R reduce(R seed, BiFunction<R, T, R> function, BinaryOperator<R> combiner) {
+        if(isParallel()) {
+            return runParallel(() -> {
+                try(Stream<T> stream = stream()) {
+                    return stream.reduce(seed, function, combiner);
+                }
+            });
         }
 
-        return result;
+        return reduce(seed, function);
     }
 
     /**
      * Reduces the enumerable into a multiple values using the provided accumulator
-     * functions.
+     * functions. Use aggregate() for reductions that can be run in parallel.
      *
      * Forces iteration, but iterates only once.
      */
     public <R> List<R> reduce(Accumulator<T, R>... reductions) {
-        List<R> res = new ArrayList<>();
-        Iterator<T> iterator = iterator();
+        traversal.traverse(x -> {
+            for(Accumulator<T, R> reduction : reductions) {
+                reduction.apply(x);
+            }
+        });
 
-        while(iterator.hasNext()) {
-            T next = iterator.next();
+        List<R> res = new ArrayList<>(reductions.length);
 
-            for(int i=0;i<reductions.length;i++) {
-                res.add(i, reductions[i].apply(next));
-            }
+        for(Accumulator<T, R> reduction : reductions) {
+            res.add(reduction.getValue());
         }
 
-        return res.subList(0, reductions.length);
+        return res;
     }
 
     /**
@@ -397,29 +992,47 @@ public class Enumerable<T> implements Iterable<T> {
      * Reverses the items in the enumerable and returns the resulting items
      * as a new enumerable.
      *
-     * Forces iteration.
+     * Forces iteration, unless the items can be accessed by index. In that
+     * case the items are iterated in descending order without copying them.
      */
     public Enumerable<T> reverse() {
-        LinkedList<T> list = new LinkedList<>();
-        forEach(x -> list.add(0, x));
+        if(capabilities.isRandomAccess()) {
+            return derive(indexed(capabilities.reverse()));
+        }
+
+        List<T> list = new ArrayList<>();
+        forEach(x -> list.add(x));
+        Collections.reverse(list);
 
-        return new Enumerable<>(() -> list.iterator());
+        return derive(of(list));
     }
 
     /**
      * Returns a new enumerable which will create a copy of the enumerable
-     * during its first iteration.
+     * during its first iteration. The enumerable is iterated only once, even
+     * if the saved enumerable is iterated by several threads at the same time.
      */
     public Enumerable<T> save() {
-        LinkedList<T> list = new LinkedList<>();
+        SaveBuffer<T> buffer = new SaveBuffer<>(iteratorSupplier);
+
+        return derive(new Enumerable<>(() -> new SaveIterator<>(buffer)));
+    }
 
-        return new Enumerable<>(() -> new SaveIterator<>(iterator(), list));
+    /**
+     * Returns the enumerable in sequential mode.
+     */
+    public Enumerable<T> sequential() {
+        return new Enumerable<>(iteratorSupplier, traversal, spliteratorSupplier, capabilities, null);
     }
 
     /**
      * Checks if the number of items in the enumerable is exactly the provided value.
      */
     public boolean sizeIsExactly(long n) {
+        if(capabilities.hasSize()) {
+            return capabilities.size() == n;
+        }
+
         return limit(n + 1).count() == n;
     }
 
@@ -427,6 +1040,10 @@ public class Enumerable<T> implements Iterable<T> {
      * Checks if the number of items in the enumerable is greater than the provided value.
      */
     public boolean sizeIsGreaterThan(long n) {
+        if(capabilities.hasSize()) {
+            return capabilities.size() > n;
+        }
+
         return limit(n + 1).count() == n + 1;
     }
 
@@ -434,6 +1051,10 @@ public class Enumerable<T> implements Iterable<T> {
      * Checks if the number of items in the enumerable is less than the provided value.
      */
     public boolean sizeIsLessThan(long n) {
+        if(capabilities.hasSize()) {
+            return capabilities.size() < n;
+        }
+
         return limit(n).count() < n;
     }
 
@@ -442,7 +1063,31 @@ public class Enumerable<T> implements Iterable<T> {
      * as a new enumerable.
      */
     public Enumerable<T> skip(long n) {
-        return new Enumerable<>(() -> new SkipIterator<>(this, n));
+        if(capabilities.isRandomAccess()) {
+            return derive(indexed(capabilities.skip(n)));
+        }
+
+        return derive(new Enumerable<>(() -> new SkipIterator<>(this, n),
+                sink -> traversal.traverse(new SkipSink<>(sink, n)),
+                () -> Spliterators.spliteratorUnknownSize(new SkipIterator<>(this, n), Spliterator.ORDERED),
+                capabilities.skip(n)));
+    }
+
+    /**
+     * Returns the items from the start index (inclusive) to the end index
+     * (exclusive) as a new enumerable.
+     */
+    public Enumerable<T> slice(long from, long to) {
+        return skip(from).limit(to - Math.max(0, from));
+    }
+
+    /**
+     * Returns a spliterator over the items. Array and collection sources report
+     * their size and characteristics so they can be split evenly.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return spliteratorSupplier.get();
     }
 
     /**
@@ -454,28 +1099,75 @@ public class Enumerable<T> implements Iterable<T> {
      *         any of the provided predicates.
      */
     public Enumerable<T>[] split(Predicate<T>... predicates) {
-        Enumerable<BiPredicate<T, Integer>> biPredicates =
-                Enumerable.of(predicates).map(x -> (y, i) -> x.test(y));
+        IndexedPredicate<T>[] indexedPredicates = new IndexedPredicate[predicates.length];
+
+        for(int i=0;i<predicates.length;i++) {
+            Predicate<T> predicate = predicates[i];
+            indexedPredicates[i] = (x, index) -> predicate.test(x);
+        }
 
-        return split(biPredicates.toArray());
+        return split(indexedPredicates);
     }
 
     /**
      * Splits the enumerable into multiple enumerables using the provided predicate(s).
      * @param predicates Predicates to match with. Item index can be accessed using
-     *                   the integer argument in the predicate.
+     *                   the long argument in the predicate.
      * @return An array of enumerables splitted by the provided predicate(s).
      *         Resulting array will always have the size of number predicates +
      *         one. Last element in the array will hold items that don't match
      *         any of the provided predicates.
+     *
+     * The enumerables share a single iteration of the items and buffer a
+     * bounded number of items each. An enumerable that falls further behind,
+     * or is iterated again, iterates the items on its own: the pipeline before
+     * the split is run again, including its side effects, from the start.
+     * Sources that can be iterated only once throw an IllegalStateException
+     * in that case.
      */
-    public Enumerable<T>[] split(BiPredicate<T, Integer>... predicates) {
+    public Enumerable<T>[] split(IndexedPredicate<T>... predicates) {
         IteratorSplitter<T> splitter = new IteratorSplitter<>(this, predicates);
+        Enumerable<T>[] splits = new Enumerable[predicates.length + 1];
+
+        for(int i=0;i<splits.length;i++) {
+            int split = i;
+            splits[i] = derive(new Enumerable<>(() -> splitter.getIterator(split)));
+        }
+
+        return splits;
+    }
+
+    /**
+     * Splits the enumerable into multiple enumerables using the provided predicate(s).
+     * Item index can be accessed using the integer argument in the predicate.
+     *
+     * @deprecated Boxes the index of every item, use {@link #split(IndexedPredicate[])}.
+     */
+    @Deprecated
+    public Enumerable<T>[] split(BiPredicate<T, Integer>... predicates) {
+        IndexedPredicate<T>[] indexedPredicates = new IndexedPredicate[predicates.length];
 
-        return Enumerable.of(predicates)
-                .map(x -> new Enumerable<T>(() -> splitter.getIterator(x)))
-                .concat(new Enumerable<T>(() -> splitter.getRemainderIterator()))
-                .toArray();
+        for(int i=0;i<predicates.length;i++) {
+            indexedPredicates[i] = toIndexed(predicates[i]);
+        }
+
+        return split(indexedPredicates);
+    }
+
+    private static <T> IndexedPredicate<T> toIndexed(BiPredicate<T, Integer> predicate) {
+        if(predicate instanceof IndexedPredicate) {
+            return (IndexedPredicate<T>) predicate;
+        }
+
+        return (x, i) -> predicate.test(x, (int) i);
+    }
+
+    /**
+     * Returns a stream over the items. The stream is parallel if the
+     * enumerable is in parallel mode.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), isParallel());
     }
 
     /**
@@ -486,22 +1178,60 @@ public class Enumerable<T> implements Iterable<T> {
      * As with all reduction functions, sum will force iteration.
      */
     public <R extends Number> Optional<Double> sum(Function<T, R> mappingFunction) {
-        if(isEmpty()) {
+        DoubleSummaryStatistics statistics = mapToDouble(x -> mappingFunction.apply(x).doubleValue())
+                .summaryStatistics();
+
+        if(statistics.getCount() == 0) {
             return Optional.empty();
         }
 
-        return Optional.of(map(mappingFunction)
-                .reduce(0.0, (seed, x) -> seed + x.doubleValue()));
+        return Optional.of(statistics.getSum());
+    }
+
+    /**
+     * Pushes the items into the provided sink.
+     */
+    void traverse(Sink<T> sink) {
+        traversal.traverse(sink);
+    }
+
+    private static <T> Enumerable<T> indexed(Capabilities<T> capabilities) {
+        return new Enumerable<>(() -> new IndexIterator<>(capabilities), new IndexTraversal<>(capabilities),
+                () -> new IndexSpliterator<>(capabilities), capabilities);
+    }
+
+    <R> Enumerable<R> derive(Enumerable<R> enumerable) {
+        return new Enumerable<>(enumerable.iteratorSupplier, enumerable.traversal,
+                enumerable.spliteratorSupplier, enumerable.capabilities, pool);
+    }
+
+    ForkJoinPool getPool() {
+        return pool;
+    }
+
+    Capabilities<T> getCapabilities() {
+        return capabilities;
+    }
+
+    private <R> R runParallel(Supplier<R> task) {
+        return pool.submit(() -> task.get()).join();
     }
 
     /**
      * Collects the enumerable into an array with a size provided in the init function.
      */
     public T[] toArray(Function<Integer, T[]> initFunction) {
+        if(capabilities.hasSize()) {
+            T[] array = initFunction.apply(count());
+            limit(array.length).forEach((x, i) -> array[(int) i] = x);
+
+            return array;
+        }
+
         Enumerable<T> saved = save();
         T[] array = initFunction.apply(saved.count());
 
-        saved.limit(array.length).forEach((x, i) -> array[i] = x);
+        saved.limit(array.length).forEach((x, i) -> array[(int) i] = x);
 
         return array;
     }
@@ -533,4 +1263,221 @@ public class Enumerable<T> implements Iterable<T> {
         return collect(Collectors.toList());
     }
 
+    /**
+     * Writes the items to the provided channel, encoding them with the
+     * provided encoder into a reusable direct buffer. The buffer is written
+     * only when full, which keeps the number of writes low.
+     *
+     * The encoder must fit an item into the remaining space of the buffer or
+     * throw a BufferOverflowException, as the put methods of ByteBuffer do.
+     *
+     * Forces iteration.
+     * @return Number of bytes written.
+     */
+    public long writeTo(WritableByteChannel channel, BiConsumer<T, ByteBuffer> encoder) {
+        return writeTo(channel, encoder, ChannelWriter.DEFAULT_BUFFER_SIZE, 1);
+    }
+
+    /**
+     * Writes the items to the provided channel using the provided number of
+     * buffers. Gathering channels write all the buffers with a single call.
+     *
+     * Forces iteration.
+     * @return Number of bytes written.
+     */
+    public long writeTo(WritableByteChannel channel, BiConsumer<T, ByteBuffer> encoder,
+                        int bufferSize, int bufferCount) {
+        ChannelWriter writer = new ChannelWriter(channel, bufferSize, bufferCount);
+        traversal.traverse(x -> writer.write(x, encoder));
+
+        return writer.flush();
+    }
+
+    /**
+     * Writes the items into a UTF-8 encoded file, one item per line.
+     * @see #writeLines(Path, Charset)
+     */
+    public long writeLines(Path path) {
+        return writeLines(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the items into a file, one item per line. The file is created
+     * or overwritten.
+     * Text items, such as lines, are encoded without converting them into
+     * strings.
+     *
+     * Forces iteration.
+     * @return Number of bytes written.
+     */
+    public long writeLines(Path path, Charset charset) {
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ChannelWriter writer = new ChannelWriter(channel, ChannelWriter.DEFAULT_BUFFER_SIZE, 1);
+
+            traversal.traverse(x -> {
+                writer.write(x instanceof CharSequence ? (CharSequence) x : String.valueOf(x), charset);
+                writer.write("\n", charset);
+            });
+
+            return writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends the items to the provided appendable, separated by the provided
+     * delimiter. Items are appended in blocks to keep the number of calls
+     * to the appendable low.
+     *
+     * Forces iteration.
+     */
+    public <A extends Appendable> A joinTo(A appendable, CharSequence delimiter) {
+        boolean direct = appendable instanceof StringBuilder;
+        StringBuilder builder = direct ? (StringBuilder) appendable : new StringBuilder(JOIN_BLOCK_SIZE * 2);
+        boolean[] first = { true };
+
+        traversal.traverse(x -> {
+            if(!first[0]) {
+                builder.append(delimiter);
+            }
+            first[0] = false;
+            if(x instanceof CharSequence) {
+                builder.append((CharSequence) x);
+            } else {
+                builder.append(x);
+            }
+
+            if(!direct && builder.length() >= JOIN_BLOCK_SIZE) {
+                append(appendable, builder);
+            }
+        });
+
+        if(!direct) {
+            append(appendable, builder);
+        }
+
+        return appendable;
+    }
+
+    private static void append(Appendable appendable, StringBuilder builder) {
+        try {
+            appendable.append(builder);
+            builder.setLength(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns sliding windows of the provided size, moving by one item at a
+     * time. Only complete windows are returned.
+     */
+    public Enumerable<List<T>> window(int size) {
+        return window(size, 1);
+    }
+
+    /**
+     * Returns windows of the provided size, moving the window by the provided
+     * step. Windows overlap if the step is smaller than the size and are
+     * tumbling if the step equals the size. Only complete windows are returned.
+     */
+    public Enumerable<List<T>> window(int size, int step) {
+        return window(size, step, false);
+    }
+
+    /**
+     * Returns windows of the provided size, moving the window by the provided
+     * step. Windows overlap if the step is smaller than the size and are
+     * tumbling if the step equals the size. Only complete windows are returned.
+     * @param reuseWindow If true, every window is the same read-only view
+     *                    which is moved for the next window, so no window is
+     *                    copied. Windows must then be consumed before moving
+     *                    to the next one.
+     */
+    public Enumerable<List<T>> window(int size, int step, boolean reuseWindow) {
+        WindowIterator.checkWindow(size, step);
+
+        return derive(new Enumerable<>(() -> new WindowIterator<>(this, size, step, reuseWindow),
+                sink -> traversal.traverse(new WindowSink<>(sink, size, step, reuseWindow)),
+                // Parallel streams buffer items, so windows are never reused there.
+                () -> Spliterators.spliteratorUnknownSize(new WindowIterator<>(this, size, step, false),
+                        Spliterator.ORDERED)));
+    }
+
+    /**
+     * Combines the items with the items of another enumerable pairwise using
+     * the provided zip function. Stops at the end of the shorter enumerable.
+     */
+    public <U, R> Enumerable<R> zip(Iterable<U> other, BiFunction<T, U, R> zipFunction) {
+        Capabilities<R> zipped = capabilities.zip(Capabilities.of(other), zipFunction);
+
+        if(zipped.isRandomAccess()) {
+            return derive(indexed(zipped));
+        }
+
+        Supplier<Iterator<R>> iteratorSupplier = () -> new ZipIterator<>(iterator(), other.iterator(), zipFunction);
+
+        return derive(new Enumerable<>(iteratorSupplier, new IteratorTraversal<>(iteratorSupplier),
+                () -> Spliterators.spliteratorUnknownSize(iteratorSupplier.get(), Spliterator.ORDERED),
+                zipped));
+    }
+
+    /**
+     * Combines the items of the provided enumerables at the same positions
+     * using the provided zip function. Stops at the end of the shortest
+     * enumerable.
+     *
+     * The list passed to the zip function is reused and is only valid during
+     * the call, unless all sources can be accessed by index.
+     */
+    @SafeVarargs
+    public static <T, R> Enumerable<R> zip(Function<List<T>, R> zipFunction, Iterable<? extends T>... sources) {
+        Capabilities<? extends T>[] sourceCapabilities = new Capabilities[sources.length];
+        boolean randomAccess = sources.length > 0;
+
+        for(int i=0;i<sources.length;i++) {
+            sourceCapabilities[i] = Capabilities.of((Iterable<T>) sources[i]);
+            randomAccess &= sourceCapabilities[i].isRandomAccess();
+        }
+
+        if(randomAccess) {
+            return indexed(Capabilities.of(() -> {
+                long size = Long.MAX_VALUE;
+
+                for(Capabilities<? extends T> capabilities : sourceCapabilities) {
+                    size = Math.min(size, capabilities.size());
+                }
+
+                return size;
+            }, index -> {
+                Object[] items = new Object[sourceCapabilities.length];
+
+                for(int i=0;i<items.length;i++) {
+                    items[i] = sourceCapabilities[i].get(index);
+                }
+
+                return zipFunction.apply((List<T>) Arrays.asList(items));
+            }, () -> {
+                LongFunction<? extends T>[] readers = new LongFunction[sourceCapabilities.length];
+
+                for(int i=0;i<readers.length;i++) {
+                    readers[i] = sourceCapabilities[i].reader();
+                }
+
+                return index -> {
+                    Object[] items = new Object[readers.length];
+
+                    for(int i=0;i<items.length;i++) {
+                        items[i] = readers[i].apply(index);
+                    }
+
+                    return zipFunction.apply((List<T>) Arrays.asList(items));
+                };
+            }));
+        }
+
+        return new Enumerable<>(() -> new MultiZipIterator<>(sources, zipFunction));
+    }
 }
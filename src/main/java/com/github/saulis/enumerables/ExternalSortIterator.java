@@ -0,0 +1,455 @@
+package com.github.saulis.enumerables;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Orders the items by sorting runs of at most runSize items in memory,
+ * spilling full runs into temporary files and merging the runs lazily while
+ * iterating. Inputs fitting into a single run are never written to disk.
+ * When there are more runs than can be merged at once, consecutive groups
+ * of runs are merged in balanced passes, so that every item is rewritten
+ * only once per pass.
+ *
+ * Ties are broken by the order of the runs so that the result is the same
+ * as with a stable sort. Temporary files are deleted when the iterator is
+ * exhausted or closed. Files of iterators that are abandoned without being
+ * closed are deleted once the iterator has been garbage collected, or at the
+ * latest when the JVM exits.
+ */
+public class ExternalSortIterator<T> implements Iterator<T>, AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Iterator<T> iterator;
+    private final Comparator<T> comparator;
+    private final SortOptions<T> options;
+    private final Spill spill;
+    private SpillReference reference;
+    private PriorityQueue<Cursor<T>> heap;
+    private boolean closed;
+
+    public ExternalSortIterator(Iterator<T> iterator, Comparator<T> comparator, SortOptions<T> options) {
+        this.iterator = iterator;
+        this.comparator = comparator;
+        this.options = options;
+        this.spill = new Spill();
+    }
+
+    private PriorityQueue<Cursor<T>> getHeap() {
+        if(heap == null) {
+            try {
+                heap = merge(sortRuns());
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException(e);
+            } catch (RuntimeException | Error e) {
+                close();
+                throw e;
+            }
+        }
+
+        return heap;
+    }
+
+    private List<Cursor<T>> sortRuns() throws IOException {
+        int runSize = options.getRunSize();
+        int mergeWidth = options.getMergeWidth();
+        List<T> list = new ArrayList<>(Math.min(runSize, 1024));
+        List<Run> runs = new ArrayList<>();
+
+        while(iterator.hasNext()) {
+            list.add(iterator.next());
+
+            if(list.size() == runSize && iterator.hasNext()) {
+                list.sort(comparator);
+                runs.add(write(new ListCursor<>(list, 0)));
+                list.clear();
+            }
+        }
+
+        list.sort(comparator);
+
+        // The last run stays in memory and takes one of the merge slots.
+        while(runs.size() >= mergeWidth) {
+            List<Run> merged = new ArrayList<>((runs.size() + mergeWidth - 1) / mergeWidth);
+
+            for(int i=0;i<runs.size();i+=mergeWidth) {
+                List<Run> group = runs.subList(i, Math.min(i + mergeWidth, runs.size()));
+
+                merged.add(group.size() == 1 ? group.get(0) : mergeRuns(group));
+            }
+
+            runs = merged;
+        }
+
+        List<Cursor<T>> inputs = new ArrayList<>(runs.size() + 1);
+
+        for(Run run : runs) {
+            inputs.add(open(run, inputs.size()));
+        }
+
+        inputs.add(new ListCursor<>(list, inputs.size()));
+
+        return inputs;
+    }
+
+    private Run mergeRuns(List<Run> group) throws IOException {
+        List<Cursor<T>> inputs = new ArrayList<>(group.size());
+
+        for(Run run : group) {
+            inputs.add(open(run, inputs.size()));
+        }
+
+        Run merged = write(merge(inputs));
+
+        for(Cursor<T> input : inputs) {
+            spill.close(input);
+        }
+        for(Run run : group) {
+            spill.delete(run);
+        }
+
+        return merged;
+    }
+
+    private PriorityQueue<Cursor<T>> merge(List<Cursor<T>> inputs) throws IOException {
+        PriorityQueue<Cursor<T>> queue = new PriorityQueue<>(Math.max(inputs.size(), 1), this::compare);
+
+        for(Cursor<T> input : inputs) {
+            if(input.advance()) {
+                queue.add(input);
+            }
+        }
+
+        return queue;
+    }
+
+    private int compare(Cursor<T> x, Cursor<T> y) {
+        int result = comparator.compare(x.head, y.head);
+
+        return result != 0 ? result : Integer.compare(x.index, y.index);
+    }
+
+    private T poll(PriorityQueue<Cursor<T>> queue) throws IOException {
+        Cursor<T> cursor = queue.poll();
+        T item = cursor.head;
+
+        if(cursor.advance()) {
+            queue.add(cursor);
+        }
+
+        return item;
+    }
+
+    private Run write(ListCursor<T> cursor) throws IOException {
+        PriorityQueue<Cursor<T>> queue = new PriorityQueue<>(1, this::compare);
+
+        if(cursor.advance()) {
+            queue.add(cursor);
+        }
+
+        return write(queue);
+    }
+
+    private Run write(PriorityQueue<Cursor<T>> queue) throws IOException {
+        if(reference == null) {
+            reference = SpillReference.register(this, spill);
+        }
+
+        Path path = spill.createFile(options.getDirectory());
+        Serializer<T> serializer = options.getSerializer();
+        long count = 0;
+
+        try(DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE))) {
+            while(!queue.isEmpty()) {
+                serializer.write(poll(queue), output);
+                count++;
+            }
+        }
+
+        return new Run(path, count);
+    }
+
+    private FileCursor<T> open(Run run, int index) throws IOException {
+        return spill.add(new FileCursor<>(run, options.getSerializer(), index));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if(closed) {
+            return false;
+        }
+
+        if(getHeap().isEmpty()) {
+            close();
+
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        try {
+            return poll(heap);
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Closes the open runs and deletes the temporary files.
+     */
+    @Override
+    public void close() {
+        if(closed) {
+            return;
+        }
+
+        closed = true;
+        heap = null;
+        spill.close();
+
+        if(reference != null) {
+            reference.unregister();
+        }
+    }
+
+    /**
+     * Deletes the temporary files of the iterators that have been garbage
+     * collected without being closed.
+     */
+    static void deleteAbandoned() {
+        SpillReference.expunge();
+    }
+
+    /**
+     * Temporary files and open runs of a single sort. Kept apart from the
+     * iterator, so that they can be deleted after the iterator has been
+     * collected, and synchronized, since that happens on other threads.
+     */
+    private static class Spill {
+        private final List<Path> files = new ArrayList<>();
+        private final List<Cursor<?>> cursors = new ArrayList<>();
+        private Path directory;
+        private boolean closed;
+
+        synchronized Path createFile(Path parent) throws IOException {
+            if(closed) {
+                throw new IllegalStateException("Sort has been closed.");
+            }
+
+            if(directory == null) {
+                directory = parent != null
+                        ? Files.createTempDirectory(parent, "enumerables-sort")
+                        : Files.createTempDirectory("enumerables-sort");
+            }
+
+            Path path = Files.createTempFile(directory, "run", ".tmp");
+            files.add(path);
+
+            return path;
+        }
+
+        synchronized <C extends Cursor<?>> C add(C cursor) {
+            cursors.add(cursor);
+
+            return cursor;
+        }
+
+        synchronized void close(Cursor<?> cursor) {
+            cursor.close();
+            cursors.remove(cursor);
+        }
+
+        synchronized void delete(Run run) {
+            deleteFile(run.path);
+            files.remove(run.path);
+        }
+
+        synchronized void close() {
+            if(closed) {
+                return;
+            }
+
+            closed = true;
+
+            for(Cursor<?> cursor : cursors) {
+                cursor.close();
+            }
+            for(Path file : files) {
+                deleteFile(file);
+            }
+            if(directory != null) {
+                deleteFile(directory);
+            }
+
+            cursors.clear();
+            files.clear();
+        }
+
+        private static void deleteFile(Path path) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                path.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * Deletes the files of a sort once its iterator is only phantom
+     * reachable. Stale references are expunged whenever a sort starts
+     * spilling, and the remaining ones by a shutdown hook.
+     */
+    private static class SpillReference extends PhantomReference<Object> {
+        private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+        private static final Set<SpillReference> REFERENCES = ConcurrentHashMap.newKeySet();
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                for(SpillReference reference : REFERENCES) {
+                    reference.spill.close();
+                }
+            }, "enumerables-sort-cleanup"));
+        }
+
+        private final Spill spill;
+
+        private SpillReference(Object owner, Spill spill) {
+            super(owner, QUEUE);
+            this.spill = spill;
+        }
+
+        static SpillReference register(Object owner, Spill spill) {
+            expunge();
+
+            SpillReference reference = new SpillReference(owner, spill);
+            REFERENCES.add(reference);
+
+            return reference;
+        }
+
+        static void expunge() {
+            Reference<?> reference;
+
+            while((reference = QUEUE.poll()) != null) {
+                ((SpillReference) reference).unregister();
+                ((SpillReference) reference).spill.close();
+            }
+        }
+
+        void unregister() {
+            REFERENCES.remove(this);
+            clear();
+        }
+    }
+
+    private static class Run {
+        private final Path path;
+        private final long count;
+
+        private Run(Path path, long count) {
+            this.path = path;
+            this.count = count;
+        }
+    }
+
+    private static abstract class Cursor<T> {
+        protected final int index;
+        protected T head;
+
+        protected Cursor(int index) {
+            this.index = index;
+        }
+
+        abstract boolean advance() throws IOException;
+
+        void close() {
+        }
+    }
+
+    private static class ListCursor<T> extends Cursor<T> {
+        private final List<T> list;
+        private int position;
+
+        private ListCursor(List<T> list, int index) {
+            super(index);
+            this.list = list;
+        }
+
+        @Override
+        boolean advance() {
+            if(position == list.size()) {
+                head = null;
+
+                return false;
+            }
+
+            head = list.get(position++);
+
+            return true;
+        }
+    }
+
+    private static class FileCursor<T> extends Cursor<T> {
+        private final DataInputStream input;
+        private final Serializer<T> serializer;
+        private long remaining;
+
+        private FileCursor(Run run, Serializer<T> serializer, int index) throws IOException {
+            super(index);
+            this.input = new DataInputStream(new BufferedInputStream(Files.newInputStream(run.path), BUFFER_SIZE));
+            this.serializer = serializer;
+            this.remaining = run.count;
+        }
+
+        @Override
+        boolean advance() throws IOException {
+            if(remaining == 0) {
+                head = null;
+                close();
+
+                return false;
+            }
+
+            head = serializer.read(input);
+            remaining--;
+
+            return true;
+        }
+
+        @Override
+        void close() {
+            try {
+                input.close();
+            } catch (IOException e) {
+                // Nothing to recover, the file is deleted next.
+            }
+        }
+    }
+}
@@ -1,39 +1,43 @@
 package com.github.saulis.enumerables;
 
 import java.util.Iterator;
-import java.util.function.BiPredicate;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
 
 public class FilterIterator<T> implements Iterator<T> {
 
     private final Iterator<T> iterator;
-    private final BiPredicate<T, Integer> predicate;
-    private int cursor;
+    private final Predicate<T> predicate;
     private T nextItemToReturn = null;
+    private boolean hasNextItem = false;
 
-    public FilterIterator(Iterable<T> iterable, BiPredicate<T,Integer> predicate) {
+    public FilterIterator(Iterable<T> iterable, Predicate<T> predicate) {
         iterator = iterable.iterator();
         this.predicate = predicate;
-        this.cursor = 0;
     }
 
     @Override
     public boolean hasNext() {
-        while(iterator.hasNext()) {
+        while(!hasNextItem && iterator.hasNext()) {
             T next = iterator.next();
-            if(predicate.test(next, cursor++)) {
+            if(predicate.test(next)) {
                 nextItemToReturn = next;
-
-                return true;
+                hasNextItem = true;
             }
         }
 
-        return false;
+        return hasNextItem;
     }
 
     @Override
     public T next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
         T next = nextItemToReturn;
         nextItemToReturn = null;
+        hasNextItem = false;
 
         return next;
     }
@@ -0,0 +1,26 @@
+package com.github.saulis.enumerables;
+
+import java.util.function.Predicate;
+
+public class FilterSink<T> implements Sink<T> {
+
+    private final Sink<T> sink;
+    private final Predicate<T> predicate;
+
+    public FilterSink(Sink<T> sink, Predicate<T> predicate) {
+        this.sink = sink;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public void accept(T t) {
+        if(predicate.test(t)) {
+            sink.accept(t);
+        }
+    }
+
+    @Override
+    public boolean isDone() {
+        return sink.isDone();
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.saulis.enumerables;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+public class FilterSpliterator<T> implements Spliterator<T> {
+
+    private final Spliterator<T> spliterator;
+    private final Predicate<T> predicate;
+    private T nextItem;
+
+    public FilterSpliterator(Spliterator<T> spliterator, Predicate<T> predicate) {
+        this.spliterator = spliterator;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        while(spliterator.tryAdvance(x -> nextItem = x)) {
+            T next = nextItem;
+            nextItem = null;
+
+            if(predicate.test(next)) {
+                action.accept(next);
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        spliterator.forEachRemaining(x -> {
+            if(predicate.test(x)) {
+                action.accept(x);
+            }
+        });
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        Spliterator<T> split = spliterator.trySplit();
+
+        return split == null ? null : new FilterSpliterator<>(split, predicate);
+    }
+
+    @Override
+    public long estimateSize() {
+        return spliterator.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return spliterator.characteristics() & ~(SIZED | SUBSIZED);
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.saulis.enumerables;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+public class FlatMapIterator<T, R> implements Iterator<R> {
+
+    private final Iterator<T> iterator;
+    private final Function<T, ? extends Iterable<R>> mappingFunction;
+    private Iterator<R> currentIterator;
+
+    public FlatMapIterator(Iterable<T> iterable, Function<T, ? extends Iterable<R>> mappingFunction) {
+        this.iterator = iterable.iterator();
+        this.mappingFunction = mappingFunction;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while(currentIterator == null || !currentIterator.hasNext()) {
+            if(!iterator.hasNext()) {
+                return false;
+            }
+
+            Iterable<R> items = mappingFunction.apply(iterator.next());
+
+            // Empty collections are skipped without creating an iterator.
+            if(!(items instanceof Collection) || !((Collection<R>) items).isEmpty()) {
+                currentIterator = items.iterator();
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public R next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return currentIterator.next();
+    }
+}
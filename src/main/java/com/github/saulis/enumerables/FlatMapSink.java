@@ -0,0 +1,43 @@
+package com.github.saulis.enumerables;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+public class FlatMapSink<T, R> implements Sink<T> {
+
+    private final Sink<R> sink;
+    private final Function<T, ? extends Iterable<R>> mappingFunction;
+
+    public FlatMapSink(Sink<R> sink, Function<T, ? extends Iterable<R>> mappingFunction) {
+        this.sink = sink;
+        this.mappingFunction = mappingFunction;
+    }
+
+    @Override
+    public void accept(T t) {
+        Iterable<R> items = mappingFunction.apply(t);
+
+        if(items instanceof Enumerable) {
+            ((Enumerable<R>) items).traverse(sink);
+        } else if(items instanceof List && items instanceof RandomAccess) {
+            List<R> list = (List<R>) items;
+
+            for(int i=0;i<list.size() && !sink.isDone();i++) {
+                sink.accept(list.get(i));
+            }
+        } else {
+            Iterator<R> iterator = items.iterator();
+
+            while(!sink.isDone() && iterator.hasNext()) {
+                sink.accept(iterator.next());
+            }
+        }
+    }
+
+    @Override
+    public boolean isDone() {
+        return sink.isDone();
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.saulis.enumerables;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Joins two enumerables by building a hash table of one side and streaming
+ * the other. The inner side is built unless both sizes are known and the
+ * outer side is smaller. Left joins always build the inner side.
+ */
+public class HashJoin<T, U, K, R> {
+
+    private final Enumerable<T> outer;
+    private final Iterable<U> inner;
+    private final Function<T, K> outerKey;
+    private final Function<U, K> innerKey;
+    private final BiFunction<T, U, R> resultSelector;
+    private final boolean left;
+
+    public HashJoin(Enumerable<T> outer, Iterable<U> inner, Function<T, K> outerKey,
+                    Function<U, K> innerKey, BiFunction<T, U, R> resultSelector, boolean left) {
+        this.outer = outer;
+        this.inner = inner;
+        this.outerKey = outerKey;
+        this.innerKey = innerKey;
+        this.resultSelector = resultSelector;
+        this.left = left;
+    }
+
+    public Iterator<R> iterator() {
+        if(buildOuter()) {
+            return new JoinIterator<>(inner.iterator(), buildTable(outer, outerKey, outer.getCapabilities()),
+                    innerKey, (u, t) -> resultSelector.apply(t, u), false);
+        }
+
+        return new JoinIterator<>(outer.iterator(), buildTable(inner, innerKey, innerCapabilities()),
+                outerKey, resultSelector, left);
+    }
+
+    public void traverse(Sink<R> sink) {
+        if(buildOuter()) {
+            JoinTable<K, T> table = buildTable(outer, outerKey, outer.getCapabilities());
+            Iterator<U> iterator = inner.iterator();
+
+            while(!sink.isDone() && iterator.hasNext()) {
+                U u = iterator.next();
+
+                for(T t : table.get(innerKey.apply(u))) {
+                    if(sink.isDone()) {
+                        return;
+                    }
+                    sink.accept(resultSelector.apply(t, u));
+                }
+            }
+
+            return;
+        }
+
+        JoinTable<K, U> table = buildTable(inner, innerKey, innerCapabilities());
+
+        outer.traverse(new Sink<T>() {
+            @Override
+            public void accept(T t) {
+                List<U> matches = table.get(outerKey.apply(t));
+
+                if(matches.isEmpty() && left) {
+                    sink.accept(resultSelector.apply(t, null));
+                }
+
+                for(int i=0;i<matches.size() && !sink.isDone();i++) {
+                    sink.accept(resultSelector.apply(t, matches.get(i)));
+                }
+            }
+
+            @Override
+            public boolean isDone() {
+                return sink.isDone();
+            }
+        });
+    }
+
+    static <V, K> JoinTable<K, V> buildTable(Iterable<V> items, Function<V, K> keyFunction,
+                                             Capabilities<V> capabilities) {
+        return new JoinTable<>(items, keyFunction, capabilities.hasSize() ? capabilities.size() : 16);
+    }
+
+    private Capabilities<U> innerCapabilities() {
+        return Capabilities.of(inner);
+    }
+
+    private boolean buildOuter() {
+        if(left) {
+            return false;
+        }
+
+        Capabilities<T> outerCapabilities = outer.getCapabilities();
+        Capabilities<U> innerCapabilities = innerCapabilities();
+
+        return outerCapabilities.hasSize() && innerCapabilities.hasSize()
+                && outerCapabilities.size() < innerCapabilities.size();
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.saulis.enumerables;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.LongFunction;
+
+public class IndexIterator<T> implements Iterator<T> {
+
+    private final LongFunction<T> reader;
+    private final long size;
+    private long cursor;
+
+    public IndexIterator(Capabilities<T> capabilities) {
+        this.reader = capabilities.reader();
+        this.size = capabilities.size();
+        this.cursor = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return cursor < size;
+    }
+
+    @Override
+    public T next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return reader.apply(cursor++);
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.saulis.enumerables;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * Spliterator over items accessed by index. Splits the remaining range in
+ * halves. Each split reads its items with a reader of its own.
+ */
+public class IndexSpliterator<T> implements Spliterator<T> {
+
+    private final Capabilities<T> capabilities;
+    private long cursor;
+    private final long end;
+    private LongFunction<T> reader;
+
+    public IndexSpliterator(Capabilities<T> capabilities) {
+        this(capabilities, 0, capabilities.size());
+    }
+
+    private IndexSpliterator(Capabilities<T> capabilities, long cursor, long end) {
+        this.capabilities = capabilities;
+        this.cursor = cursor;
+        this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if(cursor < end) {
+            action.accept(getReader().apply(cursor++));
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        LongFunction<T> reader = getReader();
+
+        for(;cursor < end;cursor++) {
+            action.accept(reader.apply(cursor));
+        }
+    }
+
+    private LongFunction<T> getReader() {
+        if(reader == null) {
+            reader = capabilities.reader();
+        }
+
+        return reader;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        long middle = cursor + (end - cursor) / 2;
+
+        if(middle <= cursor) {
+            return null;
+        }
+
+        IndexSpliterator<T> prefix = new IndexSpliterator<>(capabilities, cursor, middle);
+        cursor = middle;
+
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - cursor;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+}
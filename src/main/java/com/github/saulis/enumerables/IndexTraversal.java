@@ -0,0 +1,22 @@
+package com.github.saulis.enumerables;
+
+import java.util.function.LongFunction;
+
+public class IndexTraversal<T> implements Traversal<T> {
+
+    private final Capabilities<T> capabilities;
+
+    public IndexTraversal(Capabilities<T> capabilities) {
+        this.capabilities = capabilities;
+    }
+
+    @Override
+    public void traverse(Sink<T> sink) {
+        LongFunction<T> reader = capabilities.reader();
+        long size = capabilities.size();
+
+        for(long i=0;i<size && !sink.isDone();i++) {
+            sink.accept(reader.apply(i));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.saulis.enumerables;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Consumer that receives the item together with its index. The index is
+ * passed as a primitive so that consuming does not box.
+ *
+ * Extends BiConsumer&lt;T, Integer&gt; only so that lambdas passed to the
+ * deprecated BiConsumer overloads resolve to the indexed ones.
+ */
+@FunctionalInterface
+public interface IndexedConsumer<T> extends BiConsumer<T, Integer> {
+
+    void accept(T item, long index);
+
+    /**
+     * @deprecated Boxes the index, use {@link #accept(Object, long)}.
+     */
+    @Deprecated
+    @Override
+    default void accept(T item, Integer index) {
+        accept(item, (long) index);
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.saulis.enumerables;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class IndexedFilterIterator<T> implements Iterator<T> {
+
+    private final Iterator<T> iterator;
+    private final IndexedPredicate<T> predicate;
+    private long cursor;
+    private T nextItemToReturn = null;
+    private boolean hasNextItem = false;
+
+    public IndexedFilterIterator(Iterable<T> iterable, IndexedPredicate<T> predicate) {
+        iterator = iterable.iterator();
+        this.predicate = predicate;
+        this.cursor = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while(!hasNextItem && iterator.hasNext()) {
+            T next = iterator.next();
+            if(predicate.test(next, cursor++)) {
+                nextItemToReturn = next;
+                hasNextItem = true;
+            }
+        }
+
+        return hasNextItem;
+    }
+
+    @Override
+    public T next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        T next = nextItemToReturn;
+        nextItemToReturn = null;
+        hasNextItem = false;
+
+        return next;
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.saulis.enumerables;
+
+public class IndexedFilterSink<T> implements Sink<T> {
+
+    private final Sink<T> sink;
+    private final IndexedPredicate<T> predicate;
+    private long cursor;
+
+    public IndexedFilterSink(Sink<T> sink, IndexedPredicate<T> predicate) {
+        this.sink = sink;
+        this.predicate = predicate;
+        this.cursor = 0;
+    }
+
+    @Override
+    public void accept(T t) {
+        if(predicate.test(t, cursor++)) {
+            sink.accept(t);
+        }
+    }
+
+    @Override
+    public boolean isDone() {
+        return sink.isDone();
+    }
+}
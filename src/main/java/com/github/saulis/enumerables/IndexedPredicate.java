@@ -0,0 +1,25 @@
+package com.github.saulis.enumerables;
+
+import java.util.function.BiPredicate;
+
+/**
+ * Predicate that receives the item together with its index. The index is
+ * passed as a primitive so that testing does not box.
+ *
+ * Extends BiPredicate&lt;T, Integer&gt; only so that lambdas passed to the
+ * deprecated BiPredicate overloads resolve to the indexed ones.
+ */
+@FunctionalInterface
+public interface IndexedPredicate<T> extends BiPredicate<T, Integer> {
+
+    boolean test(T item, long index);
+
+    /**
+     * @deprecated Boxes the index, use {@link #test(Object, long)}.
+     */
+    @Deprecated
+    @Override
+    default boolean test(T item, Integer index) {
+        return test(item, (long) index);
+    }
+}
@@ -0,0 +1,497 @@
+package com.github.saulis.enumerables;
+
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.function.*;
+
+/**
+ * Enumerable specialized for ints. Items are never boxed unless they are
+ * mapped back into objects using boxed() or mapToObj().
+ */
+public class IntEnumerable {
+    private final Supplier<PrimitiveIterator.OfInt> iteratorSupplier;
+    private final IntTraversal traversal;
+
+    /**
+     * Constructs a new int enumerable object.
+     * @param iteratorSupplier Supplier function that will return new iterators.
+     */
+    public IntEnumerable(Supplier<PrimitiveIterator.OfInt> iteratorSupplier) {
+        this(iteratorSupplier, sink -> {
+            PrimitiveIterator.OfInt iterator = iteratorSupplier.get();
+
+            while(!sink.isDone() && iterator.hasNext()) {
+                sink.accept(iterator.nextInt());
+            }
+        });
+    }
+
+    IntEnumerable(Supplier<PrimitiveIterator.OfInt> iteratorSupplier, IntTraversal traversal) {
+        this.iteratorSupplier = iteratorSupplier;
+        this.traversal = traversal;
+    }
+
+    /**
+     * Constructs an empty int enumerable.
+     */
+    public static IntEnumerable empty() {
+        return of();
+    }
+
+    /**
+     * Constructs a new int enumerable from an arbitrary number of items.
+     */
+    public static IntEnumerable of(int... items) {
+        return new IntEnumerable(() -> new PrimitiveIterator.OfInt() {
+            private int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < items.length;
+            }
+
+            @Override
+            public int nextInt() {
+                return items[cursor++];
+            }
+        }, sink -> {
+            for(int i=0;i<items.length && !sink.isDone();i++) {
+                sink.accept(items[i]);
+            }
+        });
+    }
+
+    /**
+     * Constructs a int enumerable consisting of a range of integers. Provided
+     * start and end arguments are inclusive.
+     */
+    public static IntEnumerable range(int from, int to) {
+        int step = from <= to ? 1 : -1;
+        long size = Math.abs((long)to - from) + 1;
+
+        return new IntEnumerable(() -> new PrimitiveIterator.OfInt() {
+            private long cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public int nextInt() {
+                return (int)(from + step * cursor++);
+            }
+        }, sink -> {
+            for(long i=0;i<size && !sink.isDone();i++) {
+                sink.accept((int)(from + step * i));
+            }
+        });
+    }
+
+    /**
+     * Maps the items of an enumerable into ints.
+     */
+    static <T> IntEnumerable of(Enumerable<T> enumerable, ToIntFunction<T> mappingFunction) {
+        return new IntEnumerable(() -> {
+            Iterator<T> iterator = enumerable.iterator();
+
+            return new PrimitiveIterator.OfInt() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public int nextInt() {
+                    return mappingFunction.applyAsInt(iterator.next());
+                }
+            };
+        }, sink -> enumerable.traverse(new Sink<T>() {
+            @Override
+            public void accept(T t) {
+                sink.accept(mappingFunction.applyAsInt(t));
+            }
+
+            @Override
+            public boolean isDone() {
+                return sink.isDone();
+            }
+        }));
+    }
+
+    /**
+     * Checks if all items match the provided predicate.
+     */
+    public boolean allMatch(IntPredicate predicate) {
+        return filter(predicate.negate()).isEmpty();
+    }
+
+    /**
+     * Checks if any item matches the provided predicate.
+     */
+    public boolean anyMatch(IntPredicate predicate) {
+        return !filter(predicate).isEmpty();
+    }
+
+    /**
+     * Reduces the enumerable into an average.
+     *
+     * Forces iteration.
+     */
+    public OptionalDouble average() {
+        IntSummaryStatistics statistics = summaryStatistics();
+
+        if(statistics.getCount() == 0) {
+            return OptionalDouble.empty();
+        }
+
+        return OptionalDouble.of(statistics.getAverage());
+    }
+
+    /**
+     * Boxes the items and returns them as a new enumerable.
+     */
+    public Enumerable<Integer> boxed() {
+        return mapToObj(x -> x);
+    }
+
+    /**
+     * Copies the items into direct memory outside of the heap. The copy can
+     * be iterated multiple times without boxing and should be closed when
+     * it is no longer needed.
+     *
+     * Forces iteration.
+     */
+    public OffHeapInts copyOffHeap() {
+        return OffHeapInts.copy(traversal);
+    }
+
+    /**
+     * Returns the size of the enumerable.
+     *
+     * Forces iteration.
+     */
+    public int count() {
+        int[] count = { 0 };
+        traversal.traverse(x -> count[0]++);
+
+        return count[0];
+    }
+
+    /**
+     * Returns a new enumerable containing only the first occurrence of each
+     * item.
+     */
+    public IntEnumerable distinct() {
+        return distinct(16);
+    }
+
+    /**
+     * Returns a new enumerable containing only the first occurrence of each
+     * item.
+     * @param expectedSize Expected number of distinct items, used for presizing.
+     */
+    public IntEnumerable distinct(int expectedSize) {
+        return new IntEnumerable(() -> filter(new IntHashSet(expectedSize)::add).iterator(),
+                sink -> filter(new IntHashSet(expectedSize)::add).traversal.traverse(sink));
+    }
+
+    /**
+     * Returns a new enumerable containing only items that match the provided predicate.
+     */
+    public IntEnumerable filter(IntPredicate predicate) {
+        return new IntEnumerable(() -> {
+            PrimitiveIterator.OfInt iterator = iterator();
+
+            return new PrimitiveIterator.OfInt() {
+                private boolean hasNextItem = false;
+                private int nextItem;
+
+                @Override
+                public boolean hasNext() {
+                    while(!hasNextItem && iterator.hasNext()) {
+                        nextItem = iterator.nextInt();
+                        hasNextItem = predicate.test(nextItem);
+                    }
+
+                    return hasNextItem;
+                }
+
+                @Override
+                public int nextInt() {
+                    if(!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    hasNextItem = false;
+
+                    return nextItem;
+                }
+            };
+        }, sink -> traversal.traverse(IntSink.chain(sink, x -> {
+            if(predicate.test(x)) {
+                sink.accept(x);
+            }
+        })));
+    }
+
+    /**
+     * Tries to return the first item of the enumerable.
+     */
+    public OptionalInt findFirst() {
+        PrimitiveIterator.OfInt iterator = iterator();
+
+        if(iterator.hasNext()) {
+            return OptionalInt.of(iterator.nextInt());
+        }
+
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Iterates through all the items an performs the provided action.
+     */
+    public void forEach(IntConsumer consumer) {
+        traversal.traverse(consumer::accept);
+    }
+
+    /**
+     * Checks if the enumerable is empty.
+     */
+    public boolean isEmpty() {
+        return !iterator().hasNext();
+    }
+
+    public PrimitiveIterator.OfInt iterator() {
+        return iteratorSupplier.get();
+    }
+
+    /**
+     * Limits the size of the enumerable to the provided length and returns the
+     * resulting items as a new enumerable.
+     */
+    public IntEnumerable limit(long maxSize) {
+        return new IntEnumerable(() -> {
+            PrimitiveIterator.OfInt iterator = iterator();
+
+            return new PrimitiveIterator.OfInt() {
+                private long cursor = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return cursor < maxSize && iterator.hasNext();
+                }
+
+                @Override
+                public int nextInt() {
+                    cursor++;
+                    return iterator.nextInt();
+                }
+            };
+        }, sink -> {
+            long[] cursor = { 0 };
+
+            traversal.traverse(new IntSink() {
+                @Override
+                public void accept(int value) {
+                    cursor[0]++;
+                    sink.accept(value);
+                }
+
+                @Override
+                public boolean isDone() {
+                    return cursor[0] >= maxSize || sink.isDone();
+                }
+            });
+        });
+    }
+
+    /**
+     * Maps the items using the provided mapping function and returns the
+     * resulting items as a new enumerable.
+     */
+    public IntEnumerable map(IntUnaryOperator mappingFunction) {
+        return new IntEnumerable(() -> {
+            PrimitiveIterator.OfInt iterator = iterator();
+
+            return new PrimitiveIterator.OfInt() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public int nextInt() {
+                    return mappingFunction.applyAsInt(iterator.nextInt());
+                }
+            };
+        }, sink -> traversal.traverse(IntSink.chain(sink,
+                x -> sink.accept(mappingFunction.applyAsInt(x)))));
+    }
+
+    /**
+     * Maps the items into objects using the provided mapping function and
+     * returns the resulting items as a new enumerable.
+     */
+    public <R> Enumerable<R> mapToObj(IntFunction<R> mappingFunction) {
+        return new Enumerable<>(() -> {
+            PrimitiveIterator.OfInt iterator = iterator();
+
+            return new Iterator<R>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public R next() {
+                    return mappingFunction.apply(iterator.nextInt());
+                }
+            };
+        }, sink -> traversal.traverse(new IntSink() {
+            @Override
+            public void accept(int value) {
+                sink.accept(mappingFunction.apply(value));
+            }
+
+            @Override
+            public boolean isDone() {
+                return sink.isDone();
+            }
+        }));
+    }
+
+    /**
+     * Finds the maximum of the items.
+     *
+     * Forces iteration.
+     */
+    public OptionalInt max() {
+        IntSummaryStatistics statistics = summaryStatistics();
+
+        if(statistics.getCount() == 0) {
+            return OptionalInt.empty();
+        }
+
+        return OptionalInt.of(statistics.getMax());
+    }
+
+    /**
+     * Finds the minimum of the items.
+     *
+     * Forces iteration.
+     */
+    public OptionalInt min() {
+        IntSummaryStatistics statistics = summaryStatistics();
+
+        if(statistics.getCount() == 0) {
+            return OptionalInt.empty();
+        }
+
+        return OptionalInt.of(statistics.getMin());
+    }
+
+    /**
+     * Checks if none of the items match the provided predicate.
+     */
+    public boolean noneMatch(IntPredicate predicate) {
+        return filter(predicate).isEmpty();
+    }
+
+    /**
+     * Reduces the enumerable into a single value using the provided accumulator
+     * function.
+     *
+     * Forces iteration.
+     */
+    public int reduce(int seed, IntBinaryOperator function) {
+        int[] result = { seed };
+        traversal.traverse(x -> result[0] = function.applyAsInt(result[0], x));
+
+        return result[0];
+    }
+
+    /**
+     * Skips a number of items in the enumerable and returns the remaining items
+     * as a new enumerable.
+     */
+    public IntEnumerable skip(long n) {
+        return new IntEnumerable(() -> {
+            PrimitiveIterator.OfInt iterator = iterator();
+
+            return new PrimitiveIterator.OfInt() {
+                private long cursor = 0;
+
+                @Override
+                public boolean hasNext() {
+                    while(cursor < n && iterator.hasNext()) {
+                        cursor++;
+                        iterator.nextInt();
+                    }
+
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public int nextInt() {
+                    hasNext();
+                    return iterator.nextInt();
+                }
+            };
+        }, sink -> {
+            long[] cursor = { 0 };
+
+            traversal.traverse(IntSink.chain(sink, x -> {
+                if(cursor[0] < n) {
+                    cursor[0]++;
+                } else {
+                    sink.accept(x);
+                }
+            }));
+        });
+    }
+
+    /**
+     * Reduces the enumerable into a sum. Sum is calculated as a long to avoid
+     * overflows.
+     *
+     * Forces iteration.
+     */
+    public long sum() {
+        return summaryStatistics().getSum();
+    }
+
+    /**
+     * Reduces the enumerable into count, sum, min, max and average in a
+     * single iteration.
+     *
+     * Forces iteration.
+     */
+    public IntSummaryStatistics summaryStatistics() {
+        IntSummaryStatistics statistics = new IntSummaryStatistics();
+        traversal.traverse(statistics::accept);
+
+        return statistics;
+    }
+
+    /**
+     * Collects the enumerable into an array.
+     */
+    public int[] toArray() {
+        int[][] array = { new int[16] };
+        int[] size = { 0 };
+
+        traversal.traverse(x -> {
+            if(size[0] == array[0].length) {
+                array[0] = Arrays.copyOf(array[0], size[0] * 2);
+            }
+            array[0][size[0]++] = x;
+        });
+
+        return Arrays.copyOf(array[0], size[0]);
+    }
+}
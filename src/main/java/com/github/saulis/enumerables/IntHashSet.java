@@ -0,0 +1,104 @@
+package com.github.saulis.enumerables;
+
+/**
+ * Hash set of ints using open addressing with linear probing. Items are
+ * never boxed. Zero marks a free slot in the table and is tracked separately.
+ */
+public class IntHashSet {
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private int[] table;
+    private int mask;
+    private int size;
+    private boolean hasZero;
+
+    public IntHashSet() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSize Number of items the set can hold without resizing.
+     */
+    public IntHashSet(int expectedSize) {
+        int capacity = OpenHashSet.capacityFor(expectedSize);
+        this.table = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Adds the item to the set.
+     * @return True if the item was not in the set already.
+     */
+    public boolean add(int x) {
+        if(x == 0) {
+            if(hasZero) {
+                return false;
+            }
+            hasZero = true;
+            size++;
+
+            return true;
+        }
+
+        int i = index(x);
+        int current;
+
+        while((current = table[i]) != 0) {
+            if(current == x) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+
+        table[i] = x;
+
+        if(++size > table.length / 2 && table.length < MAX_CAPACITY) {
+            resize();
+        }
+
+        return true;
+    }
+
+    public boolean contains(int x) {
+        if(x == 0) {
+            return hasZero;
+        }
+
+        int i = index(x);
+        int current;
+
+        while((current = table[i]) != 0) {
+            if(current == x) {
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int index(int x) {
+        return OpenHashSet.mix(x) & mask;
+    }
+
+    private void resize() {
+        int[] old = table;
+        table = new int[old.length * 2];
+        mask = table.length - 1;
+
+        for(int x : old) {
+            if(x != 0) {
+                int i = index(x);
+
+                while(table[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = x;
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.saulis.enumerables;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Receives ints pushed by an IntTraversal without boxing them.
+ */
+public interface IntSink extends IntConsumer {
+
+    /**
+     * Tells the traversal that no more items are needed.
+     */
+    default boolean isDone() {
+        return false;
+    }
+
+    /**
+     * Returns a sink that performs the provided action and is done when the
+     * downstream sink is done.
+     */
+    static IntSink chain(IntSink downstream, IntConsumer action) {
+        return new IntSink() {
+            @Override
+            public void accept(int value) {
+                action.accept(value);
+            }
+
+            @Override
+            public boolean isDone() {
+                return downstream.isDone();
+            }
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.saulis.enumerables;
+
+/**
+ * Pushes all the ints of an IntEnumerable into a sink, stopping early when
+ * the sink is done.
+ */
+@FunctionalInterface
+public interface IntTraversal {
+    void traverse(IntSink sink);
+}
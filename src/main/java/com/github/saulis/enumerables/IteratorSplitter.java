@@ -1,53 +1,194 @@
 package com.github.saulis.enumerables;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.List;
-import java.util.function.BiPredicate;
 
+/**
+ * Distributes the items of a single pass over the source to the splitted
+ * enumerables. Predicates are evaluated once per item. Each split keeps a
+ * bounded buffer of items that it has not consumed yet; a split that falls
+ * behind further than that stops buffering and continues by iterating the
+ * source on its own from the point where it fell behind. Iterating the
+ * source again re-runs its upstream operations, so sources that can be
+ * iterated only once fail with an IllegalStateException instead.
+ */
 public class IteratorSplitter<T>{
+    static final int DEFAULT_BUFFER_SIZE = 8192;
 
-    private final Iterator<T> iterator;
-    private final HashMap<BiPredicate<T, Integer>, List<T>> matchedItems;
-    private final List<T> remainder;
-    private final Enumerable<BiPredicate<T, Integer>> predicates;
-    private int cursor;
+    private final Iterable<T> iterable;
+    private final IndexedPredicate<T>[] predicates;
+    private final int bufferSize;
+    private final RingBuffer<T>[] buffers;
+    private final boolean[] attached;
+    private final long[] detachedAt;
+    private final boolean[] matches;
+    private Iterator<T> iterator;
+    private long cursor;
 
-    public IteratorSplitter(Iterable<T> iterable, BiPredicate<T, Integer>... predicates) {
+    public IteratorSplitter(Iterable<T> iterable, IndexedPredicate<T>... predicates) {
+        this(iterable, DEFAULT_BUFFER_SIZE, predicates);
+    }
+
+    public IteratorSplitter(Iterable<T> iterable, int bufferSize, IndexedPredicate<T>... predicates) {
         this.cursor = 0;
-        this.matchedItems = new HashMap<>();
-        this.remainder = new ArrayList<>();
-        this.iterator = iterable.iterator();
+        this.iterable = iterable;
+        this.predicates = predicates;
+        this.bufferSize = bufferSize;
+        this.buffers = new RingBuffer[predicates.length + 1];
+        this.attached = new boolean[predicates.length + 1];
+        this.detachedAt = new long[predicates.length + 1];
+        this.matches = new boolean[predicates.length];
+
+        for(int i=0;i<buffers.length;i++) {
+            buffers[i] = new RingBuffer<>();
+            detachedAt[i] = -1;
+        }
+    }
+
+    /**
+     * Returns an iterator for the split with the provided index. The last
+     * index holds the items that don't match any of the predicates.
+     *
+     * The first iterator of each split is fed by the shared pass, later ones
+     * iterate the source on their own.
+     */
+    public Iterator<T> getIterator(int split) {
+        if(attached[split]) {
+            return getIterator(split, 0);
+        }
+
+        attached[split] = true;
+
+        return new SplitIterator<>(this, split);
+    }
+
+    Iterator<T> getIterator(int split, long from) {
+        Iterator<T> source = reiterate(split, from);
+
+        return new IndexedFilterIterator<>(() -> source, (x, i) -> i >= from && matches(split, x, i));
+    }
+
+    /**
+     * Iterates the source again. When continuing from the point where a split
+     * fell behind, the shared pass has already read the item at that index,
+     * so a source ending before it has been iterated only once, even if an
+     * operator in between hides that by creating a new iterator.
+     */
+    private Iterator<T> reiterate(int split, long from) {
+        Iterator<T> source = reiterate(split);
+
+        if(from == 0) {
+            return source;
+        }
+
+        return new Iterator<T>() {
+            private long count;
+
+            @Override
+            public boolean hasNext() {
+                if(source.hasNext()) {
+                    return true;
+                }
 
-        this.predicates = Enumerable.of(predicates);
-        this.predicates.forEach(x -> matchedItems.put(x, new ArrayList<>()));
+                if(count <= from) {
+                    throw singleUse(split, null);
+                }
+
+                return false;
+            }
+
+            @Override
+            public T next() {
+                T next = source.next();
+                count++;
+
+                return next;
+            }
+        };
     }
 
-    public Iterator<T> getIterator(BiPredicate<T, Integer> predicate) {
-        return new SplitIterator<>(this, matchedItems.get(predicate));
+    private Iterator<T> reiterate(int split) {
+        Iterator<T> source;
+
+        try {
+            source = iterable.iterator();
+        } catch (IllegalStateException e) {
+            throw singleUse(split, e);
+        }
+
+        if(iterator != null && source == iterator) {
+            throw singleUse(split, null);
+        }
+
+        return source;
     }
 
-    public Iterator<T> getRemainderIterator() {
-        return new SplitIterator<>(this, remainder);
+    private IllegalStateException singleUse(int split, Throwable cause) {
+        return new IllegalStateException("Split " + split + " needs to iterate the source again, either because it "
+                + "fell behind the other splits by more than " + bufferSize + " items or because it is iterated "
+                + "again, but the source can be iterated only once.", cause);
     }
 
-    public boolean hasNext() {
+    boolean hasNext() {
+        if(iterator == null) {
+            iterator = iterable.iterator();
+        }
+
         return iterator.hasNext();
     }
 
-    public void iterate() {
+    RingBuffer<T> getBuffer(int split) {
+        return buffers[split];
+    }
+
+    long getDetachedAt(int split) {
+        return detachedAt[split];
+    }
+
+    void iterate() {
         T next = iterator.next();
+        boolean matched = false;
+
+        for(int i=0;i<predicates.length;i++) {
+            matches[i] = predicates[i].test(next, cursor);
+            matched |= matches[i];
+        }
 
-        Enumerable<BiPredicate<T,Integer>> matchedPredicates =
-                predicates.filter(x -> x.test(next, cursor));
+        for(int i=0;i<predicates.length;i++) {
+            if(matches[i]) {
+                add(i, next);
+            }
+        }
 
-        if(matchedPredicates.isEmpty()) {
-            remainder.add(next);
-        } else {
-            matchedPredicates.forEach(x -> matchedItems.get(x).add(next));
+        if(!matched) {
+            add(predicates.length, next);
         }
 
         cursor++;
     }
+
+    private void add(int split, T item) {
+        if(detachedAt[split] >= 0) {
+            return;
+        }
+
+        if(buffers[split].size() >= bufferSize) {
+            detachedAt[split] = cursor;
+        } else {
+            buffers[split].add(item);
+        }
+    }
+
+    private boolean matches(int split, T item, long index) {
+        if(split < predicates.length) {
+            return predicates[split].test(item, index);
+        }
+
+        for(IndexedPredicate<T> predicate : predicates) {
+            if(predicate.test(item, index)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
 }
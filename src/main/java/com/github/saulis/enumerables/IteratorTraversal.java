@@ -0,0 +1,22 @@
+package com.github.saulis.enumerables;
+
+import java.util.Iterator;
+import java.util.function.Supplier;
+
+public class IteratorTraversal<T> implements Traversal<T> {
+
+    private final Supplier<Iterator<T>> iteratorSupplier;
+
+    public IteratorTraversal(Supplier<Iterator<T>> iteratorSupplier) {
+        this.iteratorSupplier = iteratorSupplier;
+    }
+
+    @Override
+    public void traverse(Sink<T> sink) {
+        Iterator<T> iterator = iteratorSupplier.get();
+
+        while(!sink.isDone() && iterator.hasNext()) {
+            sink.accept(iterator.next());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.saulis.enumerables;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Streams the probe side of a join and combines each item with the matching
+ * items of the table.
+ */
+public class JoinIterator<P, B, K, R> implements Iterator<R> {
+
+    private final Iterator<P> probe;
+    private final JoinTable<K, B> table;
+    private final Function<P, K> keyFunction;
+    private final BiFunction<P, B, R> combiner;
+    private final boolean keepUnmatched;
+    private P current;
+    private List<B> matches = Collections.emptyList();
+    private int cursor;
+
+    public JoinIterator(Iterator<P> probe, JoinTable<K, B> table, Function<P, K> keyFunction,
+                        BiFunction<P, B, R> combiner, boolean keepUnmatched) {
+        this.probe = probe;
+        this.table = table;
+        this.keyFunction = keyFunction;
+        this.combiner = combiner;
+        this.keepUnmatched = keepUnmatched;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while(cursor >= matches.size()) {
+            if(!probe.hasNext()) {
+                return false;
+            }
+
+            current = probe.next();
+            matches = table.get(keyFunction.apply(current));
+            cursor = 0;
+
+            if(matches.isEmpty() && keepUnmatched) {
+                matches = Collections.singletonList(null);
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public R next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return combiner.apply(current, matches.get(cursor++));
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.saulis.enumerables;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Hash table of items by key, used as the build side of joins. A key with a
+ * single item holds the item directly; only keys with multiple items get a
+ * list.
+ */
+public class JoinTable<K, V> {
+    private final Map<K, Object> table;
+
+    public JoinTable(Iterable<V> items, Function<V, K> keyFunction, long expectedSize) {
+        this.table = new HashMap<>((int) Math.min(expectedSize * 4 / 3 + 1, 1 << 30));
+
+        items.forEach(x -> {
+            K key = keyFunction.apply(x);
+            Object current = table.get(key);
+
+            if(current == null && !table.containsKey(key)) {
+                table.put(key, x);
+            } else if(current instanceof Group) {
+                ((Group) current).add(x);
+            } else {
+                Group group = new Group();
+                group.add(current);
+                group.add(x);
+                table.put(key, group);
+            }
+        });
+    }
+
+    /**
+     * Returns the items with the provided key, or an empty list.
+     */
+    public List<V> get(K key) {
+        Object items = table.get(key);
+
+        if(items instanceof Group) {
+            return (List<V>) items;
+        }
+
+        if(items == null && !table.containsKey(key)) {
+            return Collections.emptyList();
+        }
+
+        return Collections.singletonList((V) items);
+    }
+
+    private static class Group extends ArrayList<Object> {
+        Group() {
+            super(2);
+        }
+    }
+}
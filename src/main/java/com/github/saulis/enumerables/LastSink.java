@@ -0,0 +1,23 @@
+package com.github.saulis.enumerables;
+
+import java.util.Optional;
+
+public class LastSink<T> implements Sink<T> {
+
+    private boolean found;
+    private T last;
+
+    public LastSink() {
+        this.found = false;
+    }
+
+    @Override
+    public void accept(T t) {
+        found = true;
+        last = t;
+    }
+
+    public Optional<T> getResult() {
+        return found ? Optional.of(last) : Optional.empty();
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.saulis.enumerables;
+
+public class LimitSink<T> implements Sink<T> {
+
+    private final Sink<T> sink;
+    private final long n;
+    private long cursor;
+
+    public LimitSink(Sink<T> sink, long n) {
+        this.cursor = 0;
+        this.sink = sink;
+        this.n = n;
+    }
+
+    @Override
+    public void accept(T t) {
+        cursor++;
+        sink.accept(t);
+    }
+
+    @Override
+    public boolean isDone() {
+        return cursor >= n || sink.isDone();
+    }
+}
@@ -0,0 +1,166 @@
+package com.github.saulis.enumerables;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * View of a single line in a mapped file. The same view is reused for every
+ * line, so lines that need to be kept must be copied using toString().
+ *
+ * Lines consisting of ASCII characters are read directly from the file,
+ * other lines are decoded into a buffer that is reused between lines.
+ */
+public class Line implements CharSequence {
+
+    private final Charset charset;
+    private final CharsetDecoder decoder;
+    private ByteBuffer buffer;
+    private ByteBuffer view;
+    private int offset;
+    private int length;
+    private boolean ascii;
+    private CharBuffer chars;
+    private boolean decoded;
+
+    public Line(Charset charset) {
+        this.charset = charset;
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.chars = CharBuffer.allocate(0);
+    }
+
+    void set(ByteBuffer buffer, int offset, int length, boolean ascii) {
+        if(this.buffer != buffer) {
+            this.buffer = buffer;
+            this.view = buffer.duplicate();
+        }
+
+        this.offset = offset;
+        this.length = length;
+        this.ascii = ascii;
+        this.decoded = false;
+    }
+
+    /**
+     * Returns a view of the current line that is not reused for the next
+     * lines. The file contents are not copied.
+     */
+    public Line detach() {
+        Line line = new Line(charset);
+        line.set(buffer, offset, length, ascii);
+
+        return line;
+    }
+
+    @Override
+    public int length() {
+        return ascii ? length : decode().remaining();
+    }
+
+    @Override
+    public char charAt(int index) {
+        if(ascii) {
+            if(index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(String.valueOf(index));
+            }
+
+            return (char) buffer.get(offset + index);
+        }
+
+        return decode().get(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    /**
+     * Returns the length of the line in bytes, excluding the line terminator.
+     */
+    public int byteLength() {
+        return length;
+    }
+
+    /**
+     * Returns the byte at the provided position of the line.
+     */
+    public byte byteAt(int index) {
+        if(index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+
+        return buffer.get(offset + index);
+    }
+
+    /**
+     * Checks if the line contains the provided characters without
+     * materializing the line.
+     */
+    public boolean contains(CharSequence s) {
+        int length = length();
+
+        for(int i=0;i <= length - s.length();i++) {
+            int j = 0;
+
+            while(j < s.length() && charAt(i + j) == s.charAt(j)) {
+                j++;
+            }
+
+            if(j == s.length()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Copies the line into a string.
+     */
+    @Override
+    public String toString() {
+        if(!ascii) {
+            return decode().toString();
+        }
+
+        byte[] bytes = new byte[length];
+        select().get(bytes);
+
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    private ByteBuffer select() {
+        ((Buffer) view).limit(offset + length);
+        ((Buffer) view).position(offset);
+
+        return view;
+    }
+
+    private CharBuffer decode() {
+        if(decoded) {
+            return chars;
+        }
+
+        int capacity = (int) Math.ceil(length * (double) decoder.maxCharsPerByte());
+
+        if(chars.capacity() < capacity) {
+            chars = CharBuffer.allocate(capacity);
+        }
+
+        ((Buffer) chars).clear();
+        decoder.reset();
+        decoder.decode(select(), chars, true);
+        decoder.flush(chars);
+        ((Buffer) chars).flip();
+        decoded = true;
+
+        return chars;
+    }
+}
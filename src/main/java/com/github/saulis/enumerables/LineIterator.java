@@ -0,0 +1,113 @@
+package com.github.saulis.enumerables;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates the lines of a file by memory-mapping it in chunks. A chunk
+ * always starts at the beginning of a line, so a line that crosses the end
+ * of a chunk is found by mapping the next chunk from its start. Lines can
+ * therefore not be longer than a chunk.
+ */
+public class LineIterator implements Iterator<Line> {
+    static final long DEFAULT_CHUNK_SIZE = 1L << 30;
+
+    private final Path path;
+    private final long chunkSize;
+    private final Line line;
+    private long fileSize = -1;
+    private long chunkStart;
+    private MappedByteBuffer chunk;
+    private int cursor;
+    private boolean ascii;
+
+    public LineIterator(Path path, Charset charset) {
+        this(path, charset, DEFAULT_CHUNK_SIZE);
+    }
+
+    LineIterator(Path path, Charset charset, long chunkSize) {
+        this.path = path;
+        this.chunkSize = chunkSize;
+        this.line = new Line(charset);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if(fileSize < 0) {
+            map(0);
+        }
+
+        return chunkStart + cursor < fileSize;
+    }
+
+    @Override
+    public Line next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        int end = findLineEnd();
+
+        if(end < 0 && chunkStart + chunk.limit() < fileSize) {
+            map(chunkStart + cursor);
+            end = findLineEnd();
+
+            if(end < 0 && chunkStart + chunk.limit() < fileSize) {
+                throw new IllegalStateException("Line at position " + chunkStart + " is longer than " + chunkSize + " bytes.");
+            }
+        }
+
+        int start = cursor;
+        int length = (end < 0 ? chunk.limit() : end) - start;
+
+        if(length > 0 && chunk.get(start + length - 1) == '\r') {
+            length--;
+        }
+
+        line.set(chunk, start, length, ascii);
+        cursor = end < 0 ? chunk.limit() : end + 1;
+
+        return line;
+    }
+
+    /**
+     * Finds the end of the current line and checks if the line is ASCII
+     * during the same scan.
+     */
+    private int findLineEnd() {
+        int limit = chunk.limit();
+        int bits = 0;
+
+        for(int i=cursor;i<limit;i++) {
+            byte b = chunk.get(i);
+
+            if(b == '\n') {
+                ascii = bits >= 0;
+                return i;
+            }
+            bits |= b;
+        }
+
+        ascii = bits >= 0;
+
+        return -1;
+    }
+
+    private void map(long position) {
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            fileSize = channel.size();
+            chunk = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(chunkSize, fileSize - position));
+            chunkStart = position;
+            cursor = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
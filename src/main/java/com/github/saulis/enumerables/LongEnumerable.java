@@ -0,0 +1,504 @@
+package com.github.saulis.enumerables;
+
+import java.util.Arrays;
+import java.util.LongSummaryStatistics;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
+import java.util.function.*;
+
+/**
+ * Enumerable specialized for longs. Items are never boxed unless they are
+ * mapped back into objects using boxed() or mapToObj().
+ */
+public class LongEnumerable {
+    private final Supplier<PrimitiveIterator.OfLong> iteratorSupplier;
+    private final LongTraversal traversal;
+
+    /**
+     * Constructs a new long enumerable object.
+     * @param iteratorSupplier Supplier function that will return new iterators.
+     */
+    public LongEnumerable(Supplier<PrimitiveIterator.OfLong> iteratorSupplier) {
+        this(iteratorSupplier, sink -> {
+            PrimitiveIterator.OfLong iterator = iteratorSupplier.get();
+
+            while(!sink.isDone() && iterator.hasNext()) {
+                sink.accept(iterator.nextLong());
+            }
+        });
+    }
+
+    LongEnumerable(Supplier<PrimitiveIterator.OfLong> iteratorSupplier, LongTraversal traversal) {
+        this.iteratorSupplier = iteratorSupplier;
+        this.traversal = traversal;
+    }
+
+    /**
+     * Constructs an empty long enumerable.
+     */
+    public static LongEnumerable empty() {
+        return of();
+    }
+
+    /**
+     * Constructs a new long enumerable from an arbitrary number of items.
+     */
+    public static LongEnumerable of(long... items) {
+        return new LongEnumerable(() -> new PrimitiveIterator.OfLong() {
+            private int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < items.length;
+            }
+
+            @Override
+            public long nextLong() {
+                return items[cursor++];
+            }
+        }, sink -> {
+            for(int i=0;i<items.length && !sink.isDone();i++) {
+                sink.accept(items[i]);
+            }
+        });
+    }
+
+    /**
+     * Constructs a long enumerable consisting of a range of longs. Provided
+     * start and end arguments are inclusive.
+     */
+    public static LongEnumerable range(long from, long to) {
+        long step = from <= to ? 1 : -1;
+
+        return new LongEnumerable(() -> new PrimitiveIterator.OfLong() {
+            private long next = from;
+            private boolean hasNextItem = true;
+
+            @Override
+            public boolean hasNext() {
+                return hasNextItem;
+            }
+
+            @Override
+            public long nextLong() {
+                long value = next;
+                hasNextItem = value != to;
+                next += step;
+
+                return value;
+            }
+        }, sink -> {
+            for(long x = from; !sink.isDone(); x += step) {
+                sink.accept(x);
+
+                if(x == to) {
+                    break;
+                }
+            }
+        });
+    }
+
+    /**
+     * Maps the items of an enumerable into longs.
+     */
+    static <T> LongEnumerable of(Enumerable<T> enumerable, ToLongFunction<T> mappingFunction) {
+        return new LongEnumerable(() -> {
+            Iterator<T> iterator = enumerable.iterator();
+
+            return new PrimitiveIterator.OfLong() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public long nextLong() {
+                    return mappingFunction.applyAsLong(iterator.next());
+                }
+            };
+        }, sink -> enumerable.traverse(new Sink<T>() {
+            @Override
+            public void accept(T t) {
+                sink.accept(mappingFunction.applyAsLong(t));
+            }
+
+            @Override
+            public boolean isDone() {
+                return sink.isDone();
+            }
+        }));
+    }
+
+    /**
+     * Checks if all items match the provided predicate.
+     */
+    public boolean allMatch(LongPredicate predicate) {
+        return filter(predicate.negate()).isEmpty();
+    }
+
+    /**
+     * Checks if any item matches the provided predicate.
+     */
+    public boolean anyMatch(LongPredicate predicate) {
+        return !filter(predicate).isEmpty();
+    }
+
+    /**
+     * Reduces the enumerable into an average.
+     *
+     * Forces iteration.
+     */
+    public OptionalDouble average() {
+        LongSummaryStatistics statistics = summaryStatistics();
+
+        if(statistics.getCount() == 0) {
+            return OptionalDouble.empty();
+        }
+
+        return OptionalDouble.of(statistics.getAverage());
+    }
+
+    /**
+     * Boxes the items and returns them as a new enumerable.
+     */
+    public Enumerable<Long> boxed() {
+        return mapToObj(x -> x);
+    }
+
+    /**
+     * Copies the items into direct memory outside of the heap. The copy can
+     * be iterated multiple times without boxing and should be closed when
+     * it is no longer needed.
+     *
+     * Forces iteration.
+     */
+    public OffHeapLongs copyOffHeap() {
+        return OffHeapLongs.copy(traversal);
+    }
+
+    /**
+     * Returns the size of the enumerable.
+     *
+     * Forces iteration.
+     */
+    public int count() {
+        int[] count = { 0 };
+        traversal.traverse(x -> count[0]++);
+
+        return count[0];
+    }
+
+    /**
+     * Returns a new enumerable containing only the first occurrence of each
+     * item.
+     */
+    public LongEnumerable distinct() {
+        return distinct(16);
+    }
+
+    /**
+     * Returns a new enumerable containing only the first occurrence of each
+     * item.
+     * @param expectedSize Expected number of distinct items, used for presizing.
+     */
+    public LongEnumerable distinct(int expectedSize) {
+        return new LongEnumerable(() -> filter(new LongHashSet(expectedSize)::add).iterator(),
+                sink -> filter(new LongHashSet(expectedSize)::add).traversal.traverse(sink));
+    }
+
+    /**
+     * Returns a new enumerable containing only items that match the provided predicate.
+     */
+    public LongEnumerable filter(LongPredicate predicate) {
+        return new LongEnumerable(() -> {
+            PrimitiveIterator.OfLong iterator = iterator();
+
+            return new PrimitiveIterator.OfLong() {
+                private boolean hasNextItem = false;
+                private long nextItem;
+
+                @Override
+                public boolean hasNext() {
+                    while(!hasNextItem && iterator.hasNext()) {
+                        nextItem = iterator.nextLong();
+                        hasNextItem = predicate.test(nextItem);
+                    }
+
+                    return hasNextItem;
+                }
+
+                @Override
+                public long nextLong() {
+                    if(!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    hasNextItem = false;
+
+                    return nextItem;
+                }
+            };
+        }, sink -> traversal.traverse(LongSink.chain(sink, x -> {
+            if(predicate.test(x)) {
+                sink.accept(x);
+            }
+        })));
+    }
+
+    /**
+     * Tries to return the first item of the enumerable.
+     */
+    public OptionalLong findFirst() {
+        PrimitiveIterator.OfLong iterator = iterator();
+
+        if(iterator.hasNext()) {
+            return OptionalLong.of(iterator.nextLong());
+        }
+
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Iterates through all the items an performs the provided action.
+     */
+    public void forEach(LongConsumer consumer) {
+        traversal.traverse(consumer::accept);
+    }
+
+    /**
+     * Checks if the enumerable is empty.
+     */
+    public boolean isEmpty() {
+        return !iterator().hasNext();
+    }
+
+    public PrimitiveIterator.OfLong iterator() {
+        return iteratorSupplier.get();
+    }
+
+    /**
+     * Limits the size of the enumerable to the provided length and returns the
+     * resulting items as a new enumerable.
+     */
+    public LongEnumerable limit(long maxSize) {
+        return new LongEnumerable(() -> {
+            PrimitiveIterator.OfLong iterator = iterator();
+
+            return new PrimitiveIterator.OfLong() {
+                private long cursor = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return cursor < maxSize && iterator.hasNext();
+                }
+
+                @Override
+                public long nextLong() {
+                    cursor++;
+                    return iterator.nextLong();
+                }
+            };
+        }, sink -> {
+            long[] cursor = { 0 };
+
+            traversal.traverse(new LongSink() {
+                @Override
+                public void accept(long value) {
+                    cursor[0]++;
+                    sink.accept(value);
+                }
+
+                @Override
+                public boolean isDone() {
+                    return cursor[0] >= maxSize || sink.isDone();
+                }
+            });
+        });
+    }
+
+    /**
+     * Maps the items using the provided mapping function and returns the
+     * resulting items as a new enumerable.
+     */
+    public LongEnumerable map(LongUnaryOperator mappingFunction) {
+        return new LongEnumerable(() -> {
+            PrimitiveIterator.OfLong iterator = iterator();
+
+            return new PrimitiveIterator.OfLong() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public long nextLong() {
+                    return mappingFunction.applyAsLong(iterator.nextLong());
+                }
+            };
+        }, sink -> traversal.traverse(LongSink.chain(sink,
+                x -> sink.accept(mappingFunction.applyAsLong(x)))));
+    }
+
+    /**
+     * Maps the items into objects using the provided mapping function and
+     * returns the resulting items as a new enumerable.
+     */
+    public <R> Enumerable<R> mapToObj(LongFunction<R> mappingFunction) {
+        return new Enumerable<>(() -> {
+            PrimitiveIterator.OfLong iterator = iterator();
+
+            return new Iterator<R>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public R next() {
+                    return mappingFunction.apply(iterator.nextLong());
+                }
+            };
+        }, sink -> traversal.traverse(new LongSink() {
+            @Override
+            public void accept(long value) {
+                sink.accept(mappingFunction.apply(value));
+            }
+
+            @Override
+            public boolean isDone() {
+                return sink.isDone();
+            }
+        }));
+    }
+
+    /**
+     * Finds the maximum of the items.
+     *
+     * Forces iteration.
+     */
+    public OptionalLong max() {
+        LongSummaryStatistics statistics = summaryStatistics();
+
+        if(statistics.getCount() == 0) {
+            return OptionalLong.empty();
+        }
+
+        return OptionalLong.of(statistics.getMax());
+    }
+
+    /**
+     * Finds the minimum of the items.
+     *
+     * Forces iteration.
+     */
+    public OptionalLong min() {
+        LongSummaryStatistics statistics = summaryStatistics();
+
+        if(statistics.getCount() == 0) {
+            return OptionalLong.empty();
+        }
+
+        return OptionalLong.of(statistics.getMin());
+    }
+
+    /**
+     * Checks if none of the items match the provided predicate.
+     */
+    public boolean noneMatch(LongPredicate predicate) {
+        return filter(predicate).isEmpty();
+    }
+
+    /**
+     * Reduces the enumerable into a single value using the provided accumulator
+     * function.
+     *
+     * Forces iteration.
+     */
+    public long reduce(long seed, LongBinaryOperator function) {
+        long[] result = { seed };
+        traversal.traverse(x -> result[0] = function.applyAsLong(result[0], x));
+
+        return result[0];
+    }
+
+    /**
+     * Skips a number of items in the enumerable and returns the remaining items
+     * as a new enumerable.
+     */
+    public LongEnumerable skip(long n) {
+        return new LongEnumerable(() -> {
+            PrimitiveIterator.OfLong iterator = iterator();
+
+            return new PrimitiveIterator.OfLong() {
+                private long cursor = 0;
+
+                @Override
+                public boolean hasNext() {
+                    while(cursor < n && iterator.hasNext()) {
+                        cursor++;
+                        iterator.nextLong();
+                    }
+
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public long nextLong() {
+                    hasNext();
+                    return iterator.nextLong();
+                }
+            };
+        }, sink -> {
+            long[] cursor = { 0 };
+
+            traversal.traverse(LongSink.chain(sink, x -> {
+                if(cursor[0] < n) {
+                    cursor[0]++;
+                } else {
+                    sink.accept(x);
+                }
+            }));
+        });
+    }
+
+    /**
+     * Reduces the enumerable into a sum.
+     *
+     * Forces iteration.
+     */
+    public long sum() {
+        return summaryStatistics().getSum();
+    }
+
+    /**
+     * Reduces the enumerable into count, sum, min, max and average in a
+     * single iteration.
+     *
+     * Forces iteration.
+     */
+    public LongSummaryStatistics summaryStatistics() {
+        LongSummaryStatistics statistics = new LongSummaryStatistics();
+        traversal.traverse(statistics::accept);
+
+        return statistics;
+    }
+
+    /**
+     * Collects the enumerable into an array.
+     */
+    public long[] toArray() {
+        long[][] array = { new long[16] };
+        int[] size = { 0 };
+
+        traversal.traverse(x -> {
+            if(size[0] == array[0].length) {
+                array[0] = Arrays.copyOf(array[0], size[0] * 2);
+            }
+            array[0][size[0]++] = x;
+        });
+
+        return Arrays.copyOf(array[0], size[0]);
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.saulis.enumerables;
+
+/**
+ * Hash set of longs using open addressing with linear probing. Items are
+ * never boxed. Zero marks a free slot in the table and is tracked separately.
+ */
+public class LongHashSet {
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] table;
+    private int mask;
+    private int size;
+    private boolean hasZero;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSize Number of items the set can hold without resizing.
+     */
+    public LongHashSet(int expectedSize) {
+        int capacity = OpenHashSet.capacityFor(expectedSize);
+        this.table = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Adds the item to the set.
+     * @return True if the item was not in the set already.
+     */
+    public boolean add(long x) {
+        if(x == 0) {
+            if(hasZero) {
+                return false;
+            }
+            hasZero = true;
+            size++;
+
+            return true;
+        }
+
+        int i = index(x);
+        long current;
+
+        while((current = table[i]) != 0) {
+            if(current == x) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+
+        table[i] = x;
+
+        if(++size > table.length / 2 && table.length < MAX_CAPACITY) {
+            resize();
+        }
+
+        return true;
+    }
+
+    public boolean contains(long x) {
+        if(x == 0) {
+            return hasZero;
+        }
+
+        int i = index(x);
+        long current;
+
+        while((current = table[i]) != 0) {
+            if(current == x) {
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int index(long x) {
+        return OpenHashSet.mix((int)(x ^ (x >>> 32))) & mask;
+    }
+
+    private void resize() {
+        long[] old = table;
+        table = new long[old.length * 2];
+        mask = table.length - 1;
+
+        for(long x : old) {
+            if(x != 0) {
+                int i = index(x);
+
+                while(table[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = x;
+            }
+        }
+    }
+}
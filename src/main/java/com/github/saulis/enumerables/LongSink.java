@@ -0,0 +1,34 @@
+package com.github.saulis.enumerables;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Receives longs pushed by a LongTraversal without boxing them.
+ */
+public interface LongSink extends LongConsumer {
+
+    /**
+     * Tells the traversal that no more items are needed.
+     */
+    default boolean isDone() {
+        return false;
+    }
+
+    /**
+     * Returns a sink that performs the provided action and is done when the
+     * downstream sink is done.
+     */
+    static LongSink chain(LongSink downstream, LongConsumer action) {
+        return new LongSink() {
+            @Override
+            public void accept(long value) {
+                action.accept(value);
+            }
+
+            @Override
+            public boolean isDone() {
+                return downstream.isDone();
+            }
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.saulis.enumerables;
+
+/**
+ * Pushes all the longs of a LongEnumerable into a sink, stopping early when
+ * the sink is done.
+ */
+@FunctionalInterface
+public interface LongTraversal {
+    void traverse(LongSink sink);
+}
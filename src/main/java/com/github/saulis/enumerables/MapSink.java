@@ -0,0 +1,24 @@
+package com.github.saulis.enumerables;
+
+import java.util.function.Function;
+
+public class MapSink<T, R> implements Sink<T> {
+
+    private final Sink<R> sink;
+    private final Function<T, R> func;
+
+    public MapSink(Sink<R> sink, Function<T, R> mapFunction) {
+        this.sink = sink;
+        this.func = mapFunction;
+    }
+
+    @Override
+    public void accept(T t) {
+        sink.accept(func.apply(t));
+    }
+
+    @Override
+    public boolean isDone() {
+        return sink.isDone();
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.saulis.enumerables;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public class MapSpliterator<T, R> implements Spliterator<R> {
+
+    private final Spliterator<T> spliterator;
+    private final Function<T, R> func;
+
+    public MapSpliterator(Spliterator<T> spliterator, Function<T, R> mapFunction) {
+        this.spliterator = spliterator;
+        this.func = mapFunction;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+        return spliterator.tryAdvance(x -> action.accept(func.apply(x)));
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super R> action) {
+        spliterator.forEachRemaining(x -> action.accept(func.apply(x)));
+    }
+
+    @Override
+    public Spliterator<R> trySplit() {
+        Spliterator<T> split = spliterator.trySplit();
+
+        return split == null ? null : new MapSpliterator<>(split, func);
+    }
+
+    @Override
+    public long estimateSize() {
+        return spliterator.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return spliterator.characteristics() & ~(DISTINCT | SORTED | NONNULL);
+    }
+}
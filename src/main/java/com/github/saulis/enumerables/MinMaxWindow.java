@@ -0,0 +1,57 @@
+package com.github.saulis.enumerables;
+
+/**
+ * Keeps the minimum or maximum of the latest items using a monotonic deque.
+ * The deque holds only items that can still become the result, so each item
+ * is added and removed at most once.
+ */
+public class MinMaxWindow implements DoubleWindow {
+
+    private final int size;
+    private final boolean max;
+    private final long[] indexes;
+    private final double[] values;
+    private int head;
+    private int count;
+    private long cursor;
+
+    public MinMaxWindow(int size, boolean max) {
+        this.size = size;
+        this.max = max;
+        this.indexes = new long[size];
+        this.values = new double[size];
+        this.head = 0;
+        this.count = 0;
+        this.cursor = 0;
+    }
+
+    @Override
+    public void add(double value) {
+        while(count > 0 && !isBetter(values[last()], value)) {
+            count--;
+        }
+
+        if(count > 0 && indexes[head] <= cursor - size) {
+            head = (head + 1) % size;
+            count--;
+        }
+
+        int tail = (head + count) % size;
+        indexes[tail] = cursor++;
+        values[tail] = value;
+        count++;
+    }
+
+    @Override
+    public double get() {
+        return values[head];
+    }
+
+    private int last() {
+        return (head + count - 1) % size;
+    }
+
+    private boolean isBetter(double a, double b) {
+        return max ? a > b : a < b;
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.saulis.enumerables;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Keeps the first item with the smallest key. Keys are mapped only once
+ * per item.
+ */
+public class MinSink<T, R> implements Sink<T> {
+
+    private final Function<T, R> mappingFunction;
+    private final Comparator<R> comparator;
+    private boolean found;
+    private T min;
+    private R minKey;
+
+    public MinSink(Function<T, R> mappingFunction, Comparator<R> comparator) {
+        this.mappingFunction = mappingFunction;
+        this.comparator = comparator;
+        this.found = false;
+    }
+
+    @Override
+    public void accept(T t) {
+        R key = mappingFunction.apply(t);
+
+        if(!found || comparator.compare(key, minKey) < 0) {
+            found = true;
+            min = t;
+            minKey = key;
+        }
+    }
+
+    public Optional<T> getResult() {
+        return found ? Optional.of(min) : Optional.empty();
+    }
+}
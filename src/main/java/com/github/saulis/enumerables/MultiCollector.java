@@ -0,0 +1,89 @@
+package com.github.saulis.enumerables;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * Collector that runs several collectors during a single iteration. Memory
+ * use depends only on the containers of the collectors, not on the number
+ * of items.
+ */
+public class MultiCollector<T> implements Collector<T, Object[], Aggregates> {
+
+    private final Collector<? super T, Object, Object>[] collectors;
+    private final Supplier<Object>[] suppliers;
+    private final BiConsumer<Object, ? super T>[] accumulators;
+    private final BinaryOperator<Object>[] combiners;
+    private final Function<Object, Object>[] finishers;
+
+    public MultiCollector(Collector<? super T, ?, ?>... collectors) {
+        this.collectors = (Collector<? super T, Object, Object>[]) collectors;
+        this.suppliers = new Supplier[collectors.length];
+        this.accumulators = new BiConsumer[collectors.length];
+        this.combiners = new BinaryOperator[collectors.length];
+        this.finishers = new Function[collectors.length];
+
+        for(int i=0;i<collectors.length;i++) {
+            suppliers[i] = this.collectors[i].supplier();
+            accumulators[i] = this.collectors[i].accumulator();
+            combiners[i] = this.collectors[i].combiner();
+            finishers[i] = this.collectors[i].finisher();
+        }
+    }
+
+    @Override
+    public Supplier<Object[]> supplier() {
+        return () -> {
+            Object[] containers = new Object[suppliers.length];
+
+            for(int i=0;i<containers.length;i++) {
+                containers[i] = suppliers[i].get();
+            }
+
+            return containers;
+        };
+    }
+
+    @Override
+    public BiConsumer<Object[], T> accumulator() {
+        return (containers, item) -> {
+            for(int i=0;i<containers.length;i++) {
+                accumulators[i].accept(containers[i], item);
+            }
+        };
+    }
+
+    @Override
+    public BinaryOperator<Object[]> combiner() {
+        return (left, right) -> {
+            for(int i=0;i<left.length;i++) {
+                left[i] = combiners[i].apply(left[i], right[i]);
+            }
+
+            return left;
+        };
+    }
+
+    @Override
+    public Function<Object[], Aggregates> finisher() {
+        return containers -> {
+            Object[] results = new Object[containers.length];
+
+            for(int i=0;i<results.length;i++) {
+                results[i] = finishers[i].apply(containers[i]);
+            }
+
+            return new Aggregates(collectors, results);
+        };
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return Collections.emptySet();
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.saulis.enumerables;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Zips any number of iterators. The items are passed to the zip function in
+ * a list that is refilled for every call.
+ */
+public class MultiZipIterator<T, R> implements Iterator<R> {
+
+    private final Iterator<? extends T>[] iterators;
+    private final Function<List<T>, R> zipFunction;
+    private final Object[] items;
+    private final List<T> itemList;
+
+    public MultiZipIterator(Iterable<? extends T>[] sources, Function<List<T>, R> zipFunction) {
+        this.iterators = new Iterator[sources.length];
+        this.zipFunction = zipFunction;
+        this.items = new Object[sources.length];
+        this.itemList = (List<T>) Arrays.asList(items);
+
+        for(int i=0;i<sources.length;i++) {
+            iterators[i] = sources[i].iterator();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        for(Iterator<? extends T> iterator : iterators) {
+            if(!iterator.hasNext()) {
+                return false;
+            }
+        }
+
+        return iterators.length > 0;
+    }
+
+    @Override
+    public R next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        for(int i=0;i<iterators.length;i++) {
+            items[i] = iterators[i].next();
+        }
+
+        return zipFunction.apply(itemList);
+    }
+}
@@ -0,0 +1,142 @@
+package com.github.saulis.enumerables;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Append-only storage for primitive values in direct byte buffers, outside
+ * of the heap. Chunks grow in size as values are added, so small copies stay
+ * small and large copies use few chunks.
+ *
+ * Closing frees the direct memory of the chunks immediately through the
+ * buffers' cleaner. Java has no public API for this, so the cleaner is found
+ * by reflection; on a runtime where that fails the memory is freed when the
+ * chunks are collected. Closing while another thread is reading the values
+ * is not allowed.
+ */
+public class OffHeapBuffer implements AutoCloseable {
+    private static final int MIN_CHUNK_SIZE = 1 << 12;
+    private static final int MAX_CHUNK_SIZE = 1 << 26;
+    private static final Consumer<ByteBuffer> FREE = findFree();
+
+    private final int width;
+    private List<ByteBuffer> chunks;
+    private ByteBuffer current;
+    private long size;
+
+    /**
+     * @param width Size of a single value in bytes.
+     */
+    public OffHeapBuffer(int width) {
+        this.width = width;
+        this.chunks = new ArrayList<>();
+        this.size = 0;
+    }
+
+    /**
+     * Returns a buffer with room for the next value.
+     */
+    ByteBuffer next() {
+        if(current == null || current.remaining() < width) {
+            int capacity = current == null ? MIN_CHUNK_SIZE : Math.min(current.capacity() * 2, MAX_CHUNK_SIZE);
+            current = ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+            chunks.add(current);
+        }
+
+        size++;
+
+        return current;
+    }
+
+    /**
+     * Ends writing. The chunks are limited to the written values.
+     */
+    void finish() {
+        for(ByteBuffer chunk : chunks) {
+            ((Buffer) chunk).flip();
+        }
+        current = null;
+    }
+
+    /**
+     * Returns the chunks holding the values. Values are read using absolute
+     * positions, so the chunks can be read by multiple threads. Readers must
+     * call checkOpen() before every read, since the memory of closed chunks
+     * has been freed.
+     */
+    List<ByteBuffer> getChunks() {
+        checkOpen();
+
+        return chunks;
+    }
+
+    void checkOpen() {
+        if(chunks == null) {
+            throw new IllegalStateException("Off-heap copy has been closed.");
+        }
+    }
+
+    /**
+     * Returns the number of values.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of bytes used by the values.
+     */
+    public long byteSize() {
+        return size * width;
+    }
+
+    @Override
+    public void close() {
+        List<ByteBuffer> chunks = this.chunks;
+
+        if(chunks != null) {
+            this.chunks = null;
+            current = null;
+            chunks.forEach(FREE);
+        }
+    }
+
+    private static Consumer<ByteBuffer> findFree() {
+        try {
+            // Java 9 and later.
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Object unsafe = theUnsafe.get(null);
+
+            return chunk -> invoke(invokeCleaner, unsafe, chunk);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Not available, try the Java 8 cleaner next.
+        }
+
+        try {
+            Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+
+            return chunk -> invoke(clean, invoke(cleaner, chunk));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return chunk -> { };
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Unable to free direct memory.", e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.saulis.enumerables;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Int enumerable copied into direct memory outside of the heap. The
+ * copy can be iterated any number of times without boxing and adds no work
+ * for the garbage collector. Closing the copy frees the memory immediately;
+ * the copy cannot be iterated after that, and must not be closed while
+ * another thread is iterating it.
+ */
+public class OffHeapInts extends IntEnumerable implements AutoCloseable {
+    private static final int WIDTH = 4;
+
+    private final OffHeapBuffer buffer;
+
+    private OffHeapInts(OffHeapBuffer buffer) {
+        super(() -> iterator(buffer), sink -> {
+            for(ByteBuffer chunk : buffer.getChunks()) {
+                int limit = chunk.limit();
+
+                for(int i=0;i<limit && !sink.isDone();i+=WIDTH) {
+                    buffer.checkOpen();
+                    sink.accept(chunk.getInt(i));
+                }
+            }
+        });
+        this.buffer = buffer;
+    }
+
+    static OffHeapInts copy(IntTraversal traversal) {
+        OffHeapBuffer buffer = new OffHeapBuffer(WIDTH);
+        traversal.traverse(x -> buffer.next().putInt(x));
+        buffer.finish();
+
+        return new OffHeapInts(buffer);
+    }
+
+    private static PrimitiveIterator.OfInt iterator(OffHeapBuffer buffer) {
+        List<ByteBuffer> chunks = buffer.getChunks();
+
+        return new PrimitiveIterator.OfInt() {
+            private int chunkIndex = 0;
+            private int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                while(chunkIndex < chunks.size() && cursor >= chunks.get(chunkIndex).limit()) {
+                    chunkIndex++;
+                    cursor = 0;
+                }
+
+                return chunkIndex < chunks.size();
+            }
+
+            @Override
+            public int nextInt() {
+                if(!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                buffer.checkOpen();
+                int value = chunks.get(chunkIndex).getInt(cursor);
+                cursor += WIDTH;
+
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Returns the size of the copy without iterating.
+     *
+     * @throws ArithmeticException if the copy holds more than
+     *         Integer.MAX_VALUE values, use size() instead.
+     */
+    @Override
+    public int count() {
+        return Math.toIntExact(buffer.size());
+    }
+
+    /**
+     * Returns the number of values in the copy without iterating.
+     */
+    public long size() {
+        return buffer.size();
+    }
+
+    /**
+     * Returns the number of bytes used by the copy.
+     */
+    public long byteSize() {
+        return buffer.byteSize();
+    }
+
+    @Override
+    public void close() {
+        buffer.close();
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.saulis.enumerables;
+
+/**
+ * Hash set using open addressing with linear probing. Items are stored
+ * directly in a single array, so adding an item does not allocate an entry
+ * object like HashSet does. Nulls are allowed.
+ */
+public class OpenHashSet<T> {
+    private static final Object NULL = new Object();
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Object[] table;
+    private int mask;
+    private int size;
+
+    public OpenHashSet() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSize Number of items the set can hold without resizing.
+     */
+    public OpenHashSet(int expectedSize) {
+        int capacity = capacityFor(expectedSize);
+        this.table = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    static int capacityFor(int expectedSize) {
+        long capacity = Long.highestOneBit(Math.max(expectedSize, 2) * 2L - 1) << 1;
+
+        return (int) Math.min(capacity, MAX_CAPACITY);
+    }
+
+    static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Adds the item to the set.
+     * @return True if the item was not in the set already.
+     */
+    public boolean add(T item) {
+        Object key = item == null ? NULL : item;
+        int i = mix(key.hashCode()) & mask;
+        Object current;
+
+        while((current = table[i]) != null) {
+            if(key.equals(current)) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+
+        table[i] = key;
+
+        if(++size > table.length / 2 && table.length < MAX_CAPACITY) {
+            resize();
+        }
+
+        return true;
+    }
+
+    public boolean contains(T item) {
+        Object key = item == null ? NULL : item;
+        int i = mix(key.hashCode()) & mask;
+        Object current;
+
+        while((current = table[i]) != null) {
+            if(key.equals(current)) {
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void resize() {
+        Object[] old = table;
+        table = new Object[old.length * 2];
+        mask = table.length - 1;
+
+        for(Object key : old) {
+            if(key != null) {
+                int i = mix(key.hashCode()) & mask;
+
+                while(table[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = key;
+            }
+        }
+    }
+}
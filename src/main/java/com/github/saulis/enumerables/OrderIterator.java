@@ -1,8 +1,8 @@
 package com.github.saulis.enumerables;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 
 public class OrderIterator<T> implements Iterator<T> {
@@ -27,7 +27,7 @@ public class OrderIterator<T> implements Iterator<T> {
     }
 
     private List<T> getList() {
-        List<T> list = new LinkedList<>();
+        List<T> list = new ArrayList<>();
         iterator.forEachRemaining(x -> list.add(x));
 
         return list;
@@ -0,0 +1,100 @@
+package com.github.saulis.enumerables;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Enumerable returned by the ordering functions. Limiting an ordered
+ * enumerable keeps only the limited number of items in memory instead of
+ * sorting all of them.
+ */
+public class OrderedEnumerable<T> extends Enumerable<T> {
+    private final Enumerable<T> parent;
+    private final Comparator<T> comparator;
+    private final SortOptions<T> options;
+
+    OrderedEnumerable(Enumerable<T> parent, Comparator<T> comparator) {
+        super(() -> new OrderIterator<>(parent.iterator(), comparator),
+              new IteratorTraversal<>(() -> new OrderIterator<>(parent.iterator(), comparator)),
+              () -> Spliterators.spliteratorUnknownSize(
+                      new OrderIterator<>(parent.iterator(), comparator), Spliterator.ORDERED),
+              parent.getCapabilities().order(),
+              parent.getPool());
+        this.parent = parent;
+        this.comparator = comparator;
+        this.options = null;
+    }
+
+    OrderedEnumerable(Enumerable<T> parent, Comparator<T> comparator, SortOptions<T> options) {
+        super(() -> new ExternalSortIterator<>(parent.iterator(), comparator, options),
+              sink -> {
+                  try(ExternalSortIterator<T> iterator =
+                              new ExternalSortIterator<>(parent.iterator(), comparator, options)) {
+                      while(!sink.isDone() && iterator.hasNext()) {
+                          sink.accept(iterator.next());
+                      }
+                  }
+              },
+              () -> Spliterators.spliteratorUnknownSize(
+                      new ExternalSortIterator<>(parent.iterator(), comparator, options), Spliterator.ORDERED),
+              parent.getCapabilities().order(),
+              parent.getPool());
+        this.parent = parent;
+        this.comparator = comparator;
+        this.options = options;
+    }
+
+    /**
+     * Returns a stream over the ordered items. When spilling, closing the
+     * stream deletes the temporary files even if the stream was not fully
+     * consumed.
+     */
+    @Override
+    public Stream<T> stream() {
+        if(options == null) {
+            return super.stream();
+        }
+
+        ExternalSortIterator<T> iterator = new ExternalSortIterator<>(parent.iterator(), comparator, options);
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), isParallel())
+                .onClose(iterator::close);
+    }
+
+    /**
+     * Tries to return the first item of the ordered enumerable.
+     *
+     * Forces iteration, but keeps only a single item in memory.
+     */
+    @Override
+    public Optional<T> findFirst() {
+        return limit(1).findFirst();
+    }
+
+    /**
+     * Limits the size of the ordered enumerable to the provided length and
+     * returns the resulting items as a new enumerable.
+     *
+     * Forces iteration when first item is fetched, but keeps at most
+     * maxSize items in memory. When spilling, limits larger than the run
+     * size are merged from the spilled runs instead.
+     */
+    @Override
+    public Enumerable<T> limit(long maxSize) {
+        if(options != null && maxSize > options.getRunSize()) {
+            return super.limit(maxSize);
+        }
+
+        Supplier<Iterator<T>> iteratorSupplier = () -> new TopIterator<>(parent.iterator(), comparator, maxSize);
+
+        return parent.derive(new Enumerable<>(iteratorSupplier, new IteratorTraversal<>(iteratorSupplier),
+                () -> Spliterators.spliteratorUnknownSize(iteratorSupplier.get(), Spliterator.ORDERED),
+                parent.getCapabilities().order().limit(maxSize)));
+    }
+}
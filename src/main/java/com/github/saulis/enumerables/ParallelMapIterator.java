@@ -0,0 +1,119 @@
+package com.github.saulis.enumerables;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+
+/**
+ * Maps items concurrently on an executor. At most the provided number of
+ * items are mapped at the same time. Results are returned either in the
+ * order of the items or in the order the mappings complete.
+ *
+ * Closing the iterator cancels the mappings still in flight.
+ */
+public class ParallelMapIterator<T, R> implements Iterator<R>, AutoCloseable {
+
+    /**
+     * Runs the mappings on daemon threads, which are created when needed
+     * and reused while they are active.
+     */
+    static final Executor DEFAULT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "enumerables-map");
+        thread.setDaemon(true);
+
+        return thread;
+    });
+
+    private final Iterator<T> iterator;
+    private final Function<T, R> mappingFunction;
+    private final Executor executor;
+    private final int concurrency;
+    private final CompletionService<R> completions;
+    private final ArrayDeque<Future<R>> inFlight;
+
+    public ParallelMapIterator(Iterable<T> iterable, Function<T, R> mappingFunction, int concurrency,
+                               Executor executor, boolean ordered) {
+        this.iterator = iterable.iterator();
+        this.mappingFunction = mappingFunction;
+        this.executor = executor;
+        this.concurrency = concurrency;
+        this.completions = ordered ? null : new ExecutorCompletionService<>(executor);
+        this.inFlight = new ArrayDeque<>(concurrency);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while(inFlight.size() < concurrency && iterator.hasNext()) {
+            T item = iterator.next();
+            Callable<R> mapping = () -> mappingFunction.apply(item);
+
+            inFlight.add(submit(mapping));
+        }
+
+        return !inFlight.isEmpty();
+    }
+
+    @Override
+    public R next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        try {
+            if(completions == null) {
+                return inFlight.poll().get();
+            }
+
+            Future<R> completed = completions.take();
+            inFlight.remove(completed);
+
+            return completed.get();
+        } catch (ExecutionException e) {
+            close();
+            Throwable cause = e.getCause();
+
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if(cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for mapped items.", e);
+        }
+    }
+
+    /**
+     * Cancels the mappings in flight.
+     */
+    @Override
+    public void close() {
+        for(Future<R> future : inFlight) {
+            future.cancel(true);
+        }
+        inFlight.clear();
+    }
+
+    private Future<R> submit(Callable<R> mapping) {
+        if(completions != null) {
+            return completions.submit(mapping);
+        }
+
+        FutureTask<R> task = new FutureTask<>(mapping);
+        executor.execute(task);
+
+        return task;
+    }
+}
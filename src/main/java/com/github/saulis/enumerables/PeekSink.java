@@ -0,0 +1,25 @@
+package com.github.saulis.enumerables;
+
+import java.util.function.Consumer;
+
+public class PeekSink<T> implements Sink<T> {
+
+    private final Sink<T> sink;
+    private final Consumer<T> consumer;
+
+    public PeekSink(Sink<T> sink, Consumer<T> consumer) {
+        this.sink = sink;
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void accept(T t) {
+        consumer.accept(t);
+        sink.accept(t);
+    }
+
+    @Override
+    public boolean isDone() {
+        return sink.isDone();
+    }
+}
@@ -0,0 +1,158 @@
+package com.github.saulis.enumerables;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Iterates the items of a traversal that is run ahead on a background
+ * thread. At most capacity items are buffered. Items are moved from the
+ * shared queue in batches to keep contention between the threads low.
+ *
+ * Background threads stop when the traversal ends, when the iterator is
+ * closed, or when the iterator is no longer referenced.
+ */
+public class PrefetchIterator<T> implements Iterator<T>, AutoCloseable {
+    private static final Object END = new Object();
+    private static final Object NULL = new Object();
+
+    private final BlockingQueue<Object> queue;
+    private final ArrayDeque<Object> buffer;
+    private final Producer<T> producer;
+    private final int capacity;
+    private Object nextItem;
+
+    public PrefetchIterator(Traversal<T> traversal, int capacity) {
+        this.capacity = capacity;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.buffer = new ArrayDeque<>(capacity);
+        this.producer = new Producer<>(traversal, queue, this);
+
+        Thread thread = new Thread(producer, "enumerables-prefetch");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if(nextItem == null) {
+            nextItem = take();
+        }
+
+        if(nextItem instanceof Failure) {
+            Throwable cause = ((Failure) nextItem).cause;
+            nextItem = END;
+
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if(cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+
+        return nextItem != END;
+    }
+
+    @Override
+    public T next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        Object item = nextItem;
+        nextItem = null;
+
+        return item == NULL ? null : (T) item;
+    }
+
+    /**
+     * Stops the background thread and discards the buffered items.
+     */
+    @Override
+    public void close() {
+        producer.cancelled = true;
+        queue.clear();
+        buffer.clear();
+        nextItem = END;
+    }
+
+    private Object take() {
+        if(buffer.isEmpty()) {
+            try {
+                buffer.add(queue.take());
+            } catch (InterruptedException e) {
+                close();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for prefetched items.", e);
+            }
+            queue.drainTo(buffer, capacity);
+        }
+
+        return buffer.poll();
+    }
+
+    private static class Failure {
+        private final Throwable cause;
+
+        Failure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
+
+    /**
+     * Runs the traversal. Holds only a weak reference to the iterator so that
+     * an abandoned iterator can be noticed.
+     */
+    private static class Producer<T> implements Runnable, Sink<T> {
+        private static final long POLL_MILLIS = 100;
+
+        private final Traversal<T> traversal;
+        private final BlockingQueue<Object> queue;
+        private final WeakReference<PrefetchIterator<T>> owner;
+        private volatile boolean cancelled;
+
+        Producer(Traversal<T> traversal, BlockingQueue<Object> queue, PrefetchIterator<T> owner) {
+            this.traversal = traversal;
+            this.queue = queue;
+            this.owner = new WeakReference<>(owner);
+        }
+
+        @Override
+        public void run() {
+            try {
+                traversal.traverse(this);
+                put(END);
+            } catch (Throwable t) {
+                put(new Failure(t));
+            }
+        }
+
+        @Override
+        public void accept(T t) {
+            put(t == null ? NULL : t);
+        }
+
+        @Override
+        public boolean isDone() {
+            return cancelled;
+        }
+
+        private void put(Object item) {
+            try {
+                while(!cancelled && !queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if(owner.get() == null) {
+                        cancelled = true;
+                    }
+                }
+            } catch (InterruptedException e) {
+                cancelled = true;
+            }
+        }
+    }
+}
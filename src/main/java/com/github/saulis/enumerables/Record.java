@@ -0,0 +1,89 @@
+package com.github.saulis.enumerables;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/**
+ * Accessor for a fixed-width binary record in a mapped file. Fields are read
+ * directly from the file using offsets relative to the start of the record.
+ *
+ * When iterating, the same accessor is reused for every record, so fields
+ * that need to be kept must be read out of it.
+ */
+public class Record {
+
+    private ByteBuffer buffer;
+    private int offset;
+    private int size;
+    private long index;
+
+    void set(ByteBuffer buffer, int offset, int size, long index) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.size = size;
+        this.index = index;
+    }
+
+    /**
+     * Returns the position of the record in the file.
+     */
+    public long index() {
+        return index;
+    }
+
+    /**
+     * Returns the size of the record in bytes.
+     */
+    public int size() {
+        return size;
+    }
+
+    public byte getByte(int fieldOffset) {
+        return buffer.get(offset + fieldOffset);
+    }
+
+    public char getChar(int fieldOffset) {
+        return buffer.getChar(offset + fieldOffset);
+    }
+
+    public short getShort(int fieldOffset) {
+        return buffer.getShort(offset + fieldOffset);
+    }
+
+    public int getInt(int fieldOffset) {
+        return buffer.getInt(offset + fieldOffset);
+    }
+
+    public long getLong(int fieldOffset) {
+        return buffer.getLong(offset + fieldOffset);
+    }
+
+    public float getFloat(int fieldOffset) {
+        return buffer.getFloat(offset + fieldOffset);
+    }
+
+    public double getDouble(int fieldOffset) {
+        return buffer.getDouble(offset + fieldOffset);
+    }
+
+    /**
+     * Copies bytes of the record into the provided array, starting from the
+     * provided field offset.
+     */
+    public void getBytes(int fieldOffset, byte[] destination) {
+        ByteBuffer view = buffer.duplicate();
+        ((Buffer) view).position(offset + fieldOffset);
+        view.get(destination);
+    }
+
+    /**
+     * Returns an accessor for the current record that is not reused for the
+     * next records. The file contents are not copied.
+     */
+    public Record detach() {
+        Record record = new Record();
+        record.set(buffer, offset, size, index);
+
+        return record;
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.saulis.enumerables;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * File of fixed-width binary records, memory-mapped in chunks of whole
+ * records. The file is mapped when it is first accessed. Bytes after the
+ * last complete record are ignored.
+ */
+public class RecordFile {
+    static final long DEFAULT_CHUNK_SIZE = 1L << 30;
+
+    private final Path path;
+    private final int recordSize;
+    private final ByteOrder order;
+    private final int recordsPerChunk;
+    private volatile MappedByteBuffer[] chunks;
+    private long count;
+
+    public RecordFile(Path path, int recordSize, ByteOrder order) {
+        this(path, recordSize, order, DEFAULT_CHUNK_SIZE);
+    }
+
+    RecordFile(Path path, int recordSize, ByteOrder order, long chunkSize) {
+        if(recordSize <= 0 || recordSize > chunkSize) {
+            throw new IllegalArgumentException("Record size must be positive and at most " + chunkSize + " bytes.");
+        }
+
+        this.path = path;
+        this.recordSize = recordSize;
+        this.order = order;
+        this.recordsPerChunk = (int) (chunkSize / recordSize);
+    }
+
+    /**
+     * Returns the number of complete records in the file.
+     */
+    public long count() {
+        map();
+
+        return count;
+    }
+
+    /**
+     * Returns a new record accessor for the record with the provided index.
+     */
+    public Record get(long index) {
+        Record record = new Record();
+        set(record, index);
+
+        return record;
+    }
+
+    /**
+     * Points the provided record accessor to the record with the provided index.
+     */
+    public void set(Record record, long index) {
+        MappedByteBuffer[] chunks = map();
+
+        record.set(chunks[(int) (index / recordsPerChunk)],
+                (int) (index % recordsPerChunk) * recordSize, recordSize, index);
+    }
+
+    private MappedByteBuffer[] map() {
+        MappedByteBuffer[] mapped = chunks;
+
+        if(mapped == null) {
+            synchronized(this) {
+                if(chunks == null) {
+                    chunks = mapChunks();
+                }
+                mapped = chunks;
+            }
+        }
+
+        return mapped;
+    }
+
+    private MappedByteBuffer[] mapChunks() {
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            count = channel.size() / recordSize;
+            long chunkBytes = (long) recordsPerChunk * recordSize;
+            MappedByteBuffer[] mapped = new MappedByteBuffer[(int) ((count + recordsPerChunk - 1) / recordsPerChunk)];
+
+            for(int i=0;i<mapped.length;i++) {
+                long position = i * chunkBytes;
+                long size = Math.min(chunkBytes, count * recordSize - position);
+
+                mapped[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+                mapped[i].order(order);
+            }
+
+            return mapped;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.saulis.enumerables;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class RecordIterator implements Iterator<Record> {
+
+    private final RecordFile file;
+    private final Record record;
+    private long cursor;
+
+    public RecordIterator(RecordFile file) {
+        this.file = file;
+        this.record = new Record();
+        this.cursor = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return cursor < file.count();
+    }
+
+    @Override
+    public Record next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        file.set(record, cursor++);
+
+        return record;
+    }
+}
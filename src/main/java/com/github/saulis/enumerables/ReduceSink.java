@@ -0,0 +1,23 @@
+package com.github.saulis.enumerables;
+
+import java.util.function.BiFunction;
+
+public class ReduceSink<T, R> implements Sink<T> {
+
+    private final BiFunction<R, T, R> function;
+    private R result;
+
+    public ReduceSink(R seed, BiFunction<R, T, R> function) {
+        this.result = seed;
+        this.function = function;
+    }
+
+    @Override
+    public void accept(T t) {
+        result = function.apply(result, t);
+    }
+
+    public R getResult() {
+        return result;
+    }
+}
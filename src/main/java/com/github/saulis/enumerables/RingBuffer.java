@@ -0,0 +1,71 @@
+package com.github.saulis.enumerables;
+
+import java.util.NoSuchElementException;
+
+/**
+ * First-in-first-out buffer backed by a circular array that grows when full.
+ * Unlike ArrayDeque, null items are allowed.
+ */
+public class RingBuffer<T> {
+    private Object[] items;
+    private int head;
+    private int size;
+
+    public RingBuffer() {
+        this(16);
+    }
+
+    public RingBuffer(int capacity) {
+        this.items = new Object[Math.max(1, capacity)];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    public void add(T item) {
+        if(size == items.length) {
+            grow();
+        }
+
+        items[(head + size) % items.length] = item;
+        size++;
+    }
+
+    /**
+     * Returns the item at the provided position, zero being the oldest item.
+     */
+    public T get(int index) {
+        return (T) items[(head + index) % items.length];
+    }
+
+    public T poll() {
+        if(size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        T item = (T) items[head];
+        items[head] = null;
+        head = (head + 1) % items.length;
+        size--;
+
+        return item;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void grow() {
+        Object[] grown = new Object[items.length * 2];
+
+        for(int i=0;i<size;i++) {
+            grown[i] = items[(head + i) % items.length];
+        }
+
+        items = grown;
+        head = 0;
+    }
+}
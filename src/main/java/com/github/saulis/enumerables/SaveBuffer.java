@@ -0,0 +1,95 @@
+package com.github.saulis.enumerables;
+
+import java.util.Iterator;
+import java.util.function.Supplier;
+
+/**
+ * Append-only buffer shared by the iterators of a saved enumerable. The source
+ * is iterated only once: iterators that are ahead pull new items from the
+ * source while holding a lock, and iterators that are behind read the
+ * buffered items without locking.
+ */
+public class SaveBuffer<T> {
+    private static final int CHUNK_SHIFT = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final Object lock = new Object();
+    private Supplier<Iterator<T>> iteratorSupplier;
+    private Iterator<T> iterator;
+    private volatile Object[][] chunks;
+    private volatile long size;
+    private volatile boolean complete;
+
+    public SaveBuffer(Supplier<Iterator<T>> iteratorSupplier) {
+        this.iteratorSupplier = iteratorSupplier;
+        this.chunks = new Object[4][];
+        this.size = 0;
+        this.complete = false;
+    }
+
+    /**
+     * Checks if an item exists at the provided index, pulling items from the
+     * source if needed.
+     */
+    public boolean has(long index) {
+        if(index < size) {
+            return true;
+        }
+
+        if(complete) {
+            return false;
+        }
+
+        synchronized (lock) {
+            while(index >= size && !complete) {
+                pull();
+            }
+        }
+
+        return index < size;
+    }
+
+    /**
+     * Returns the item at the provided index. The item must have been checked
+     * to exist using has().
+     */
+    public T get(long index) {
+        return (T) chunks[(int) (index >>> CHUNK_SHIFT)][(int) (index & CHUNK_MASK)];
+    }
+
+    private void pull() {
+        if(iterator == null) {
+            iterator = iteratorSupplier.get();
+        }
+
+        if(iterator.hasNext()) {
+            append(iterator.next());
+        } else {
+            complete = true;
+            iterator = null;
+            iteratorSupplier = null;
+        }
+    }
+
+    private void append(T item) {
+        long index = size;
+        int chunk = (int) (index >>> CHUNK_SHIFT);
+        Object[][] table = chunks;
+
+        if(chunk == table.length) {
+            Object[][] grown = new Object[table.length * 2][];
+            System.arraycopy(table, 0, grown, 0, table.length);
+            table = grown;
+        }
+
+        if(table[chunk] == null) {
+            table[chunk] = new Object[CHUNK_SIZE];
+        }
+
+        table[chunk][(int) (index & CHUNK_MASK)] = item;
+
+        chunks = table;
+        size = index + 1;
+    }
+}
@@ -1,31 +1,29 @@
 package com.github.saulis.enumerables;
 
 import java.util.Iterator;
-import java.util.List;
+import java.util.NoSuchElementException;
 
 public class SaveIterator<T> implements Iterator<T> {
 
-    private Iterator<T> iterator;
-    private final List<T> list;
+    private final SaveBuffer<T> buffer;
+    private long cursor;
 
-    public SaveIterator(Iterator<T> iterator, List<T> list) {
-        this.iterator = list.isEmpty() ? iterator : list.iterator();
-        this.list = list;
+    public SaveIterator(SaveBuffer<T> buffer) {
+        this.buffer = buffer;
+        this.cursor = 0;
     }
 
     @Override
     public boolean hasNext() {
-        return iterator.hasNext();
+        return buffer.has(cursor);
     }
 
     @Override
     public T next() {
-        T next = iterator.next();
-
-        if(!list.contains(next)) {
-            list.add(next);
+        if(!hasNext()) {
+            throw new NoSuchElementException();
         }
 
-        return next;
+        return buffer.get(cursor++);
     }
-}
\ No newline at end of file
+}
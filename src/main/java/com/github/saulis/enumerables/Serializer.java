@@ -0,0 +1,90 @@
+package com.github.saulis.enumerables;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes items to and reads them back from a binary stream. Used for
+ * spilling items to temporary files.
+ */
+public interface Serializer<T> {
+    void write(T item, DataOutput output) throws IOException;
+
+    T read(DataInput input) throws IOException;
+
+    /**
+     * Returns a serializer writing strings as length-prefixed UTF-8 bytes.
+     * Null strings are supported.
+     */
+    static Serializer<String> strings() {
+        return new Serializer<String>() {
+            @Override
+            public void write(String item, DataOutput output) throws IOException {
+                if(item == null) {
+                    output.writeInt(-1);
+                } else {
+                    byte[] bytes = item.getBytes(StandardCharsets.UTF_8);
+                    output.writeInt(bytes.length);
+                    output.write(bytes);
+                }
+            }
+
+            @Override
+            public String read(DataInput input) throws IOException {
+                int length = input.readInt();
+
+                if(length < 0) {
+                    return null;
+                }
+
+                byte[] bytes = new byte[length];
+                input.readFully(bytes);
+
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    /**
+     * Returns a serializer using Java serialization. Simple but slow and
+     * verbose, prefer a dedicated serializer for large inputs.
+     */
+    static <T extends Serializable> Serializer<T> serializable() {
+        return new Serializer<T>() {
+            @Override
+            public void write(T item, DataOutput output) throws IOException {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+                try(ObjectOutputStream stream = new ObjectOutputStream(bytes)) {
+                    stream.writeObject(item);
+                }
+
+                output.writeInt(bytes.size());
+                output.write(bytes.toByteArray());
+            }
+
+            @Override
+            public T read(DataInput input) throws IOException {
+                byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+
+                try(ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                    return (T) stream.readObject();
+                } catch (ClassNotFoundException e) {
+                    InvalidObjectException exception = new InvalidObjectException(e.getMessage());
+                    exception.initCause(e);
+
+                    throw exception;
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.saulis.enumerables;
+
+import java.util.function.Consumer;
+
+/**
+ * Receives items pushed by a Traversal. Sinks are chained so that a whole
+ * pipeline can be run in a single loop by terminal operations.
+ */
+public interface Sink<T> extends Consumer<T> {
+
+    /**
+     * Tells the traversal that no more items are needed.
+     */
+    default boolean isDone() {
+        return false;
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.saulis.enumerables;
+
+public class SkipSink<T> implements Sink<T> {
+
+    private final Sink<T> sink;
+    private final long n;
+    private long cursor;
+
+    public SkipSink(Sink<T> sink, long n) {
+        this.cursor = 0;
+        this.sink = sink;
+        this.n = n;
+    }
+
+    @Override
+    public void accept(T t) {
+        if(cursor < n) {
+            cursor++;
+        } else {
+            sink.accept(t);
+        }
+    }
+
+    @Override
+    public boolean isDone() {
+        return sink.isDone();
+    }
+}
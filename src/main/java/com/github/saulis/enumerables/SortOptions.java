@@ -0,0 +1,83 @@
+package com.github.saulis.enumerables;
+
+import java.nio.file.Path;
+
+/**
+ * Options for ordering items that do not fit in memory. Items are sorted in
+ * runs of at most runSize items, and full runs are spilled to temporary
+ * files using the serializer. The runs are merged lazily while iterating,
+ * with at most mergeWidth runs open at a time.
+ */
+public final class SortOptions<T> {
+    public static final int DEFAULT_RUN_SIZE = 1 << 20;
+    public static final int DEFAULT_MERGE_WIDTH = 64;
+
+    private final Serializer<T> serializer;
+    private final int runSize;
+    private final int mergeWidth;
+    private final Path directory;
+
+    private SortOptions(Serializer<T> serializer, int runSize, int mergeWidth, Path directory) {
+        if(serializer == null) {
+            throw new NullPointerException("Serializer must not be null.");
+        }
+        if(runSize <= 0) {
+            throw new IllegalArgumentException("Run size must be positive.");
+        }
+        if(mergeWidth < 2) {
+            throw new IllegalArgumentException("Merge width must be at least 2.");
+        }
+
+        this.serializer = serializer;
+        this.runSize = runSize;
+        this.mergeWidth = mergeWidth;
+        this.directory = directory;
+    }
+
+    /**
+     * Returns options spilling runs with the provided serializer into the
+     * default temporary directory.
+     */
+    public static <T> SortOptions<T> spill(Serializer<T> serializer) {
+        return new SortOptions<>(serializer, DEFAULT_RUN_SIZE, DEFAULT_MERGE_WIDTH, null);
+    }
+
+    /**
+     * Returns a copy of the options with the provided maximum number of items
+     * kept in memory.
+     */
+    public SortOptions<T> runSize(int runSize) {
+        return new SortOptions<>(serializer, runSize, mergeWidth, directory);
+    }
+
+    /**
+     * Returns a copy of the options with the provided maximum number of runs
+     * merged at a time. More runs are first merged into longer runs.
+     */
+    public SortOptions<T> mergeWidth(int mergeWidth) {
+        return new SortOptions<>(serializer, runSize, mergeWidth, directory);
+    }
+
+    /**
+     * Returns a copy of the options spilling runs into the provided directory.
+     */
+    public SortOptions<T> directory(Path directory) {
+        return new SortOptions<>(serializer, runSize, mergeWidth, directory);
+    }
+
+    Serializer<T> getSerializer() {
+        return serializer;
+    }
+
+    int getRunSize() {
+        return runSize;
+    }
+
+    int getMergeWidth() {
+        return mergeWidth;
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+}
@@ -1,38 +1,50 @@
 package com.github.saulis.enumerables;
 
 import java.util.Iterator;
-import java.util.List;
+import java.util.NoSuchElementException;
 
 public class SplitIterator<T> implements Iterator<T> {
 
     private final IteratorSplitter<T> splitter;
-    private final List<T> list;
-    private int cursor;
+    private final RingBuffer<T> buffer;
+    private final int split;
+    private Iterator<T> detachedIterator;
 
-    public SplitIterator(IteratorSplitter<T> splitter, List<T> list) {
-
-        this.cursor = 0;
+    public SplitIterator(IteratorSplitter<T> splitter, int split) {
         this.splitter = splitter;
-        this.list = list;
+        this.buffer = splitter.getBuffer(split);
+        this.split = split;
     }
 
     @Override
     public boolean hasNext() {
         while(true) {
-            if(list.size() > cursor) {
+            if(!buffer.isEmpty()) {
                 return true;
             }
 
-            if(!splitter.hasNext()) {
-                return false;
+            if(detachedIterator != null) {
+                return detachedIterator.hasNext();
             }
 
-            splitter.iterate();
+            long detachedAt = splitter.getDetachedAt(split);
+
+            if(detachedAt >= 0) {
+                detachedIterator = splitter.getIterator(split, detachedAt);
+            } else if(splitter.hasNext()) {
+                splitter.iterate();
+            } else {
+                return false;
+            }
         }
     }
 
     @Override
     public T next() {
-        return list.get(cursor++);
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return buffer.isEmpty() ? detachedIterator.next() : buffer.poll();
     }
 }
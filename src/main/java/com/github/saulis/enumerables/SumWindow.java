@@ -0,0 +1,81 @@
+package com.github.saulis.enumerables;
+
+/**
+ * Keeps a running sum of the latest items. The sum is recalculated every
+ * time the window has been fully replaced to keep rounding errors from
+ * accumulating over long streams.
+ *
+ * Infinite and NaN items are counted instead of summed, so that the sum
+ * becomes finite again as soon as they leave the window.
+ */
+public class SumWindow implements DoubleWindow {
+
+    private final double[] values;
+    private int cursor;
+    private double sum;
+    private int positiveInfinities;
+    private int negativeInfinities;
+    private int nans;
+
+    public SumWindow(int size) {
+        this.values = new double[size];
+        this.cursor = 0;
+        this.sum = 0;
+    }
+
+    @Override
+    public void add(double value) {
+        double removed = values[cursor];
+        values[cursor++] = value;
+
+        count(removed, -1);
+        count(value, 1);
+
+        if(cursor == values.length) {
+            cursor = 0;
+            recalculate();
+        } else {
+            sum += (Double.isFinite(value) ? value : 0) - (Double.isFinite(removed) ? removed : 0);
+
+            if(!Double.isFinite(sum)) {
+                // Finite items overflowed, subtracting them later would not recover the sum.
+                recalculate();
+            }
+        }
+    }
+
+    private void count(double value, int delta) {
+        if(Double.isNaN(value)) {
+            nans += delta;
+        } else if(value == Double.POSITIVE_INFINITY) {
+            positiveInfinities += delta;
+        } else if(value == Double.NEGATIVE_INFINITY) {
+            negativeInfinities += delta;
+        }
+    }
+
+    private void recalculate() {
+        sum = 0;
+
+        for(double x : values) {
+            if(Double.isFinite(x)) {
+                sum += x;
+            }
+        }
+    }
+
+    @Override
+    public double get() {
+        if(nans > 0 || (positiveInfinities > 0 && negativeInfinities > 0)) {
+            return Double.NaN;
+        }
+        if(positiveInfinities > 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        if(negativeInfinities > 0) {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.saulis.enumerables;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Returns the first n items of the ordered items by keeping only n items in
+ * a heap. Ties are broken by the original position of the items so that the
+ * result is the same as with a stable sort.
+ */
+public class TopIterator<T> implements Iterator<T> {
+    private final Iterator<T> iterator;
+    private final Comparator<T> comparator;
+    private final long n;
+    private Iterator<T> orderedIterator;
+
+    public TopIterator(Iterator<T> iterator, Comparator<T> comparator, long n) {
+        this.iterator = iterator;
+        this.comparator = comparator;
+        this.n = n;
+    }
+
+    private Iterator<T> getOrderedIterator() {
+        if(orderedIterator == null) {
+            List<Entry<T>> list = new ArrayList<>(getHeap());
+            list.sort(this::compare);
+
+            List<T> items = new ArrayList<>(list.size());
+            list.forEach(x -> items.add(x.item));
+
+            orderedIterator = items.iterator();
+        }
+
+        return orderedIterator;
+    }
+
+    private PriorityQueue<Entry<T>> getHeap() {
+        PriorityQueue<Entry<T>> heap = new PriorityQueue<>((int) Math.min(Math.max(n, 1), 16),
+                (x, y) -> compare(y, x));
+        long index = 0;
+
+        while(n > 0 && iterator.hasNext()) {
+            T next = iterator.next();
+
+            if(heap.size() < n) {
+                heap.add(new Entry<>(next, index));
+            } else if(comparator.compare(next, heap.peek().item) < 0) {
+                heap.poll();
+                heap.add(new Entry<>(next, index));
+            }
+
+            index++;
+        }
+
+        return heap;
+    }
+
+    private int compare(Entry<T> x, Entry<T> y) {
+        int result = comparator.compare(x.item, y.item);
+
+        return result != 0 ? result : Long.compare(x.index, y.index);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return getOrderedIterator().hasNext();
+    }
+
+    @Override
+    public T next() {
+        return getOrderedIterator().next();
+    }
+
+    private static class Entry<T> {
+        private final T item;
+        private final long index;
+
+        private Entry(T item, long index) {
+            this.item = item;
+            this.index = index;
+        }
+    }
+}
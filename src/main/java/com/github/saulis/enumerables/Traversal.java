@@ -0,0 +1,10 @@
+package com.github.saulis.enumerables;
+
+/**
+ * Pushes all the items of an enumerable into a sink, stopping early when the
+ * sink is done.
+ */
+@FunctionalInterface
+public interface Traversal<T> {
+    void traverse(Sink<T> sink);
+}
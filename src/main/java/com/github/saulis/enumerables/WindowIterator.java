@@ -0,0 +1,133 @@
+package com.github.saulis.enumerables;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Returns windows of consecutive items. Items are kept in a ring buffer, so
+ * each item is added and removed only once regardless of the window size.
+ * Returned windows are copies of the buffer, unless reuseWindow is set, in
+ * which case every window is the same read-only view over the buffer and
+ * moving the window costs O(step) instead of O(size).
+ */
+public class WindowIterator<T> implements Iterator<List<T>> {
+
+    private final Iterator<T> iterator;
+    private final int size;
+    private final int step;
+    private final RingBuffer<T> buffer;
+    private final List<T> view;
+    private long cursor;
+    private List<T> nextWindow;
+
+    public WindowIterator(Iterable<T> iterable, int size, int step) {
+        this(iterable, size, step, false);
+    }
+
+    public WindowIterator(Iterable<T> iterable, int size, int step, boolean reuseWindow) {
+        this.iterator = iterable.iterator();
+        this.size = size;
+        this.step = step;
+        this.buffer = new RingBuffer<>(size);
+        this.view = reuseWindow ? new View<>(buffer) : null;
+        this.cursor = 0;
+    }
+
+    /**
+     * Checks if a window of the provided size and step ends at the item with
+     * the provided index.
+     */
+    static boolean isWindowEnd(long index, int size, int step) {
+        return index >= size - 1 && (index - size + 1) % step == 0;
+    }
+
+    static void checkWindow(int size, int step) {
+        if(size <= 0 || step <= 0) {
+            throw new IllegalArgumentException("Window size and step must be positive.");
+        }
+    }
+
+    /**
+     * Adds an item to the buffer, removing the oldest item if the buffer is
+     * full. Returns true if the item completes a window.
+     */
+    static <T> boolean add(RingBuffer<T> buffer, T item, long index, int size, int step) {
+        buffer.add(item);
+
+        if(buffer.size() > size) {
+            buffer.poll();
+        }
+
+        return isWindowEnd(index, size, step);
+    }
+
+    /**
+     * Returns the reusable view if there is one, otherwise a copy of the
+     * buffer.
+     */
+    static <T> List<T> window(RingBuffer<T> buffer, List<T> view) {
+        if(view != null) {
+            return view;
+        }
+
+        List<T> window = new ArrayList<>(buffer.size());
+
+        for(int i=0;i<buffer.size();i++) {
+            window.add(buffer.get(i));
+        }
+
+        return window;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while(nextWindow == null && iterator.hasNext()) {
+            if(add(buffer, iterator.next(), cursor++, size, step)) {
+                nextWindow = window(buffer, view);
+            }
+        }
+
+        return nextWindow != null;
+    }
+
+    @Override
+    public List<T> next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        List<T> window = nextWindow;
+        nextWindow = null;
+
+        return window;
+    }
+
+    /**
+     * Read-only list over the current items of the ring buffer.
+     */
+    static class View<T> extends AbstractList<T> implements RandomAccess {
+        private final RingBuffer<T> buffer;
+
+        View(RingBuffer<T> buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public T get(int index) {
+            if(index < 0 || index >= buffer.size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + buffer.size());
+            }
+
+            return buffer.get(index);
+        }
+
+        @Override
+        public int size() {
+            return buffer.size();
+        }
+    }
+}
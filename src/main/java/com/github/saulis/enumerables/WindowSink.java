@@ -0,0 +1,34 @@
+package com.github.saulis.enumerables;
+
+import java.util.List;
+
+public class WindowSink<T> implements Sink<T> {
+
+    private final Sink<List<T>> sink;
+    private final int size;
+    private final int step;
+    private final RingBuffer<T> buffer;
+    private final List<T> view;
+    private long cursor;
+
+    public WindowSink(Sink<List<T>> sink, int size, int step, boolean reuseWindow) {
+        this.sink = sink;
+        this.size = size;
+        this.step = step;
+        this.buffer = new RingBuffer<>(size);
+        this.view = reuseWindow ? new WindowIterator.View<>(buffer) : null;
+        this.cursor = 0;
+    }
+
+    @Override
+    public void accept(T t) {
+        if(WindowIterator.add(buffer, t, cursor++, size, step)) {
+            sink.accept(WindowIterator.window(buffer, view));
+        }
+    }
+
+    @Override
+    public boolean isDone() {
+        return sink.isDone();
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.saulis.enumerables;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+
+public class ZipIterator<T, U, R> implements Iterator<R> {
+
+    private final Iterator<T> first;
+    private final Iterator<U> second;
+    private final BiFunction<T, U, R> zipFunction;
+
+    public ZipIterator(Iterator<T> first, Iterator<U> second, BiFunction<T, U, R> zipFunction) {
+        this.first = first;
+        this.second = second;
+        this.zipFunction = zipFunction;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return first.hasNext() && second.hasNext();
+    }
+
+    @Override
+    public R next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return zipFunction.apply(first.next(), second.next());
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.saulis.enumerables;
+
+import org.junit.Test;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.Optional;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AggregateTest {
+    @Test
+    public void collectorsAreRunDuringSingleIteration() {
+        int[] iterations = { 0 };
+        Enumerable<Integer> ints = new Enumerable<>(() -> {
+            iterations[0]++;
+            return Enumerable.range(1, 4).iterator();
+        });
+        Collector<Integer, ?, Long> count = Collectors.counting();
+        Collector<Integer, ?, Integer> sum = Collectors.summingInt(x -> x);
+        Collector<Integer, ?, Optional<Integer>> max = Collectors.maxBy(Integer::compare);
+
+        Aggregates aggregates = ints.aggregate(count, sum, max);
+
+        assertThat(aggregates.get(count), is(4L));
+        assertThat(aggregates.get(sum), is(10));
+        assertThat(aggregates.get(max).get(), is(4));
+        assertThat(iterations[0], is(1));
+    }
+
+    @Test
+    public void resultsAreReturnedByPosition() {
+        Aggregates aggregates = Enumerable.of("foo", "barbaz").aggregate(
+                Collectors.joining(), Collectors.summingInt(String::length));
+
+        assertThat(aggregates.size(), is(2));
+        assertThat(aggregates.get(0), is("foobarbaz"));
+        assertThat(aggregates.get(1), is(9));
+    }
+
+    @Test
+    public void emptyEnumerableIsAggregated() {
+        Collector<Integer, ?, Double> average = Collectors.averagingInt(x -> x);
+
+        assertThat(Enumerable.<Integer>empty().aggregate(average).get(average), is(0.0));
+    }
+
+    @Test
+    public void aggregatesAreCombinedInParallel() {
+        Collector<Integer, ?, Long> count = Collectors.counting();
+        Collector<Integer, ?, DoubleSummaryStatistics> statistics = Collectors.summarizingDouble(x -> x);
+
+        Aggregates aggregates = Enumerable.range(1, 10000).parallel().aggregate(count, statistics);
+
+        assertThat(aggregates.get(count), is(10000L));
+        assertThat(aggregates.get(statistics).getSum(), is(50005000.0));
+        assertThat(aggregates.get(statistics).getMax(), is(10000.0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownCollectorIsRejected() {
+        Enumerable.of(1).aggregate(Collectors.counting()).get(Collectors.counting());
+    }
+
+    @Test
+    public void multiReduceReturnsFinalValues() {
+        assertThat(Enumerable.of("foo", "bar").reduce(
+                new Accumulator<String, Object>("", (seed, x) -> seed + x),
+                new Accumulator<String, Object>(0, (seed, x) -> (int)seed + x.length())).toArray(),
+                is(new Object[] { "foobar", 6 }));
+    }
+
+    @Test
+    public void multiReduceOfEmptyReturnsSeeds() {
+        assertThat(Enumerable.<String>empty().reduce(
+                new Accumulator<String, Object>("", (seed, x) -> seed + x)).get(0),
+                is(""));
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.saulis.enumerables;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+
+public class BatchTest {
+
+    @Test
+    public void itemsAreBatched() {
+        Enumerable<List<Integer>> batches = Enumerable.range(1, 7).batch(3);
+
+        assertThat(batches, contains(Arrays.asList(1, 2, 3), Arrays.asList(4, 5, 6), Arrays.asList(7)));
+        assertThat(batches.count(), is(3));
+    }
+
+    @Test
+    public void batchesArePushed() {
+        List<List<Integer>> pushed = new ArrayList<>();
+
+        Enumerable.range(1, 7).filter(x -> true).batch(3).limit(2).forEach(x -> pushed.add(x));
+
+        assertThat(pushed, contains(Arrays.asList(1, 2, 3), Arrays.asList(4, 5, 6)));
+    }
+
+    @Test
+    public void bufferIsReused() {
+        List<Integer> sizes = new ArrayList<>();
+        List<List<Integer>> batches = new ArrayList<>();
+
+        Enumerable.range(1, 5).batch(2, true).forEach(x -> {
+            sizes.add(x.size());
+            batches.add(x);
+        });
+
+        assertThat(sizes, contains(2, 2, 1));
+        assertThat(batches.get(0), sameInstance(batches.get(2)));
+    }
+
+    @Test
+    public void emptyEnumerableHasNoBatches() {
+        assertThat(Enumerable.empty().batch(3).isEmpty(), is(true));
+        assertThat(Enumerable.<Integer>empty().mapBatch(3, x -> x).isEmpty(), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void batchSizeMustBePositive() {
+        Enumerable.of(1).batch(0);
+    }
+
+    @Test
+    public void batchesAreMappedAndFlattened() {
+        List<Integer> calls = new ArrayList<>();
+        Enumerable<String> mapped = Enumerable.range(1, 5).mapBatch(2, batch -> {
+            calls.add(batch.size());
+            return batch.stream().map(x -> "#" + x).collect(Collectors.toList());
+        });
+
+        assertThat(mapped, contains("#1", "#2", "#3", "#4", "#5"));
+        assertThat(calls, contains(2, 2, 1));
+        assertThat(mapped.toList(), contains("#1", "#2", "#3", "#4", "#5"));
+    }
+
+    @Test
+    public void batchesAreCollectedInParallel() {
+        List<List<Integer>> batches = Enumerable.range(1, 1000).parallel().batch(10).toList();
+
+        assertThat(batches.size(), is(100));
+        assertThat(batches.get(99).get(9), is(1000));
+    }
+}
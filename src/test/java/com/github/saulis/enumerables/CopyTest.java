@@ -3,9 +3,15 @@ package com.github.saulis.enumerables;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 
 public class CopyTest {
     @Test
@@ -33,4 +39,45 @@ public class CopyTest {
         assertThat(strings.count(), is(2));
     }
 
+    @Test
+    public void savedDuplicatesAreKept() {
+        Enumerable<Integer> saved = Enumerable.of(1, 1, 2, 1).save();
+
+        assertThat(saved, contains(1, 1, 2, 1));
+        assertThat(saved, contains(1, 1, 2, 1));
+    }
+
+    @Test
+    public void partiallyIteratedSaveIsCompleted() {
+        AtomicInteger pulled = new AtomicInteger();
+        Enumerable<Integer> saved = Enumerable.range(1, 5).peek(x -> pulled.incrementAndGet()).save();
+
+        assertThat(saved.findFirst().get(), is(1));
+        assertThat(saved, contains(1, 2, 3, 4, 5));
+        assertThat(saved, contains(1, 2, 3, 4, 5));
+        assertThat(pulled.get(), is(5));
+    }
+
+    @Test
+    public void saveIsIteratedOnceByConcurrentIterators() throws Exception {
+        AtomicInteger pulled = new AtomicInteger();
+        Enumerable<Integer> saved = Enumerable.range(1, 10000).peek(x -> pulled.incrementAndGet()).save();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<Long>> sums = new ArrayList<>();
+
+            for(int i=0;i<8;i++) {
+                sums.add(executor.submit(() -> saved.reduce(0L, (acc, x) -> acc + x)));
+            }
+
+            for(Future<Long> sum : sums) {
+                assertThat(sum.get(), is(50005000L));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(pulled.get(), is(10000));
+    }
 }
@@ -0,0 +1,60 @@
+package com.github.saulis.enumerables;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+
+public class DistinctTest {
+
+    @Test
+    public void firstOccurrencesAreKept() {
+        Enumerable<String> distinct = Enumerable.of("foo", "bar", "foo", null, "baz", "bar", null).distinct();
+
+        assertThat(distinct, contains("foo", "bar", null, "baz"));
+        assertThat(distinct.count(), is(4));
+    }
+
+    @Test
+    public void itemsAreDistinctByKey() {
+        Enumerable<String> distinct = Enumerable.of("foo", "bar", "foobar", "ba").distinctBy(String::length);
+
+        assertThat(distinct, contains("foo", "foobar", "ba"));
+    }
+
+    @Test
+    public void distinctIsLazy() {
+        Enumerable<Integer> repeating = new Enumerable<>(() -> new FunctionIterator<>(0, x -> (x + 1) % 3, i -> true));
+
+        assertThat(repeating.distinct().limit(3), contains(0, 1, 2));
+    }
+
+    @Test
+    public void distinctIsPushed() {
+        List<Integer> pushed = new ArrayList<>();
+
+        Enumerable.of(1, 2, 1, 3, 2).distinct(2).forEach(x -> pushed.add(x));
+
+        assertThat(pushed, contains(1, 2, 3));
+    }
+
+    @Test
+    public void setGrowsBeyondExpectedSize() {
+        Enumerable<Integer> ints = Enumerable.range(1, 10000).concat(Enumerable.range(1, 10000));
+
+        assertThat(ints.distinct(1).count(), is(10000));
+        assertThat(ints.map(x -> x % 100).distinct().toList().size(), is(100));
+    }
+
+    @Test
+    public void primitivesAreDistinct() {
+        assertThat(IntEnumerable.of(3, 0, 3, -1, 0).distinct().toArray(), is(new int[] { 3, 0, -1 }));
+        assertThat(LongEnumerable.of(0L, 5L, 5L, Long.MIN_VALUE).distinct().toArray(), is(new long[] { 0L, 5L, Long.MIN_VALUE }));
+        assertThat(DoubleEnumerable.of(Double.NaN, 0.0, -0.0, Double.NaN).distinct().count(), is(3));
+        assertThat(IntEnumerable.range(1, 1000).map(x -> x % 10).distinct(4).sum(), is(45L));
+    }
+}
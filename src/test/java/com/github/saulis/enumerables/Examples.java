@@ -4,6 +4,7 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 public class Examples {
@@ -61,6 +62,12 @@ public class Examples {
         Enumerable.of(1, "foo", 2.0f, "bar").filterType(String.class);
         // -> ["foo", "bar"]
 
+        Enumerable.of("foo", "bar", "foo").distinct();
+        // -> ["foo", "bar"]
+
+        Enumerable.of("foo", "bar", "foobar").distinctBy(String::length);
+        // -> ["foo", "foobar"]
+
         range.allMatch(x -> x > 0);
         // true
 
@@ -103,6 +110,16 @@ public class Examples {
                 new Accumulator<String, Object>(0, (seed, x) -> (int)seed + x.length()));
         // -> ["foobar", 6]
 
+        // Stream collectors can be run during a single iteration as well.
+        // Aggregation works in parallel mode too.
+        Collector<Integer, ?, Long> count = Collectors.counting();
+        Collector<Integer, ?, Integer> sum = Collectors.summingInt(x -> x);
+        Aggregates aggregates = Enumerable.range(1, 3).aggregate(count, sum);
+        aggregates.get(count);
+        // -> 3
+        aggregates.get(sum);
+        // -> 6
+
         Enumerable.range(1, 3).sum(x -> x);
         // -> 6.0
 
@@ -117,6 +134,13 @@ public class Examples {
 
         Enumerable.range(1,10).count();
         // -> 6
+
+        // Primitive enumerables can be used to avoid boxing numbers
+        Enumerable.of("foo", "bar").mapToInt(x -> x.length()).sum();
+        // -> 6
+
+        IntEnumerable.range(1, 3).average();
+        // -> 2.0
     }
 
     @Test
@@ -2,6 +2,11 @@ package com.github.saulis.enumerables;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.junit.Assert.assertTrue;
@@ -26,6 +31,16 @@ public class FilterTest {
         assertThat(range.filter((x, i) -> i >= 5), contains(6, 7, 8, 9, 10));
     }
 
+    @Test
+    public void indexedFilterIsPushed() {
+        Enumerable<Integer> range = Enumerable.range(1, 10);
+        List<Integer> pushed = new ArrayList<>();
+
+        range.filter((x, i) -> i % 2 == 1).forEach(x -> pushed.add(x));
+
+        assertThat(pushed, contains(2, 4, 6, 8, 10));
+    }
+
     @Test
     public void noMatchesAreFound() {
         Enumerable<String> enumerable = Enumerable.of("foo", "bah");
@@ -48,4 +63,26 @@ public class FilterTest {
     public void itemsAreFilteredByType() {
         assertThat(Enumerable.of("foo", 1).filterType(Integer.class), contains(1));
     }
+
+    private static boolean isEvenIndex(String item, Integer index) {
+        return index % 2 == 0;
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void boxedIndexOverloadsAreSupported() {
+        Enumerable<String> enumerable = Enumerable.of("foo", "bar", "baz");
+        BiPredicate<String, Integer> first = (x, i) -> i == 0;
+        List<Integer> indexes = new ArrayList<>();
+        BiConsumer<String, Integer> consumer = (x, i) -> indexes.add(i);
+
+        assertThat(enumerable.filter(first), contains("foo"));
+        assertThat(enumerable.filter(FilterTest::isEvenIndex), contains("foo", "baz"));
+        assertThat(enumerable.filter((x, i) -> i > 0), contains("bar", "baz"));
+        assertThat(enumerable.split(first)[1], contains("bar", "baz"));
+
+        enumerable.forEach(consumer);
+
+        assertThat(indexes, contains(0, 1, 2));
+    }
 }
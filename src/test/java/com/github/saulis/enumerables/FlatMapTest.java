@@ -2,8 +2,15 @@ package com.github.saulis.enumerables;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
 
 public class FlatMapTest {
 
@@ -28,4 +35,39 @@ public class FlatMapTest {
 
     }
 
+    @Test
+    public void flatMappedArraysCanBeIteratedAgain() {
+        Enumerable<String> flattened = Enumerable.of("foo bar", "baz").flatMap(x -> x.split(" "));
+
+        assertThat(flattened, contains("foo", "bar", "baz"));
+        assertThat(flattened, contains("foo", "bar", "baz"));
+        assertThat(flattened.count(), is(3));
+    }
+
+    @Test
+    public void collectionsAreFlatMapped() {
+        Enumerable<List<Integer>> lists = Enumerable.of(
+                Arrays.asList(1, 2), Collections.<Integer>emptyList(), new ArrayList<>(Arrays.asList(3)));
+
+        assertThat(lists.flatMapIterable(x -> x), contains(1, 2, 3));
+        assertThat(Enumerable.of(1, 2).flatMapIterable(x -> new HashSet<>(Arrays.asList(x))), contains(1, 2));
+    }
+
+    @Test
+    public void enumerablesAreFlatMapped() {
+        Enumerable<Integer> flattened = Enumerable.range(1, 3).flatMapIterable(x -> Enumerable.range(1, x));
+
+        assertThat(flattened, contains(1, 1, 2, 1, 2, 3));
+        assertThat(flattened.reduce(0, (acc, x) -> acc + x), is(10));
+    }
+
+    @Test
+    public void flatMapStopsEarlyWhenPushed() {
+        List<Integer> pushed = new ArrayList<>();
+
+        Enumerable.range(1, 3).flatMapIterable(x -> Enumerable.range(1, 10)).limit(12).forEach(x -> pushed.add(x));
+
+        assertThat(pushed.size(), is(12));
+        assertThat(pushed.get(11), is(2));
+    }
 }
@@ -2,10 +2,13 @@ package com.github.saulis.enumerables;
 
 import org.junit.Test;
 
+import java.util.AbstractMap.SimpleEntry;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 
 public class GroupTest {
@@ -20,4 +23,58 @@ public class GroupTest {
         assertThat(grouped.get(6), contains("baaaar"));
         assertThat(grouped.get(8), contains("fooooooo"));
     }
+
+    @Test
+    public void groupsAreAggregated() {
+        Enumerable<String> strings = Enumerable.of("foo", "baaaar", "bar", "fooooooo");
+
+        Enumerable<Map.Entry<Integer, String>> grouped = strings.groupBy(x -> x.length(), Collectors.joining(","));
+
+        assertThat(grouped, contains(
+                new SimpleEntry<>(3, "foo,bar"),
+                new SimpleEntry<>(6, "baaaar"),
+                new SimpleEntry<>(8, "fooooooo")));
+    }
+
+    @Test
+    public void itemsAreCountedByKey() {
+        Enumerable<Map.Entry<Integer, Long>> counts = Enumerable.range(1, 10).countBy(x -> x % 3);
+
+        assertThat(counts, contains(
+                new SimpleEntry<>(1, 4L),
+                new SimpleEntry<>(2, 3L),
+                new SimpleEntry<>(0, 3L)));
+    }
+
+    @Test
+    public void itemsAreSummedByKey() {
+        Enumerable<Map.Entry<Boolean, Double>> sums = Enumerable.range(1, 10).sumBy(x -> x % 2 == 0, x -> x);
+
+        assertThat(sums, contains(
+                new SimpleEntry<>(false, 25.0),
+                new SimpleEntry<>(true, 30.0)));
+    }
+
+    @Test
+    public void groupingIsLazy() {
+        int[] iterations = { 0 };
+        Enumerable<Integer> ints = new Enumerable<>(() -> {
+            iterations[0]++;
+            return Enumerable.range(1, 10).iterator();
+        });
+
+        Enumerable<Map.Entry<Integer, Long>> counts = ints.countBy(x -> x % 3);
+
+        assertThat(iterations[0], is(0));
+        assertThat(counts.count(), is(3));
+        assertThat(iterations[0], is(1));
+    }
+
+    @Test
+    public void groupsAreAggregatedInParallel() {
+        Enumerable<Map.Entry<Integer, Long>> counts = Enumerable.range(1, 100000).parallel()
+                .groupBy(x -> x % 4, Collectors.counting(), 4);
+
+        assertThat(counts.map(Map.Entry::getValue).toList(), contains(25000L, 25000L, 25000L, 25000L));
+    }
 }
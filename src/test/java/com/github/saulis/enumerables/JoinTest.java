@@ -0,0 +1,88 @@
+package com.github.saulis.enumerables;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+
+public class JoinTest {
+
+    private final Enumerable<String> words = Enumerable.of("foo", "bar", "foobar", "baz", "ab");
+
+    @Test
+    public void matchingItemsAreJoined() {
+        Enumerable<Integer> lengths = Enumerable.of(3, 6, 4);
+
+        Enumerable<String> joined = words.join(lengths, String::length, x -> x, (w, l) -> w + l);
+
+        assertThat(joined, contains("foo3", "bar3", "foobar6", "baz3"));
+    }
+
+    @Test
+    public void duplicateKeysAreJoinedWithEachOther() {
+        Enumerable<Integer> lengths = Enumerable.of(3, 2, 3);
+
+        Enumerable<String> joined = words.join(lengths, String::length, x -> x, (w, l) -> w + l);
+
+        assertThat(joined, contains("foo3", "foo3", "bar3", "bar3", "baz3", "baz3", "ab2"));
+    }
+
+    @Test
+    public void smallerOuterSideIsBuilt() {
+        Enumerable<Integer> lengths = Enumerable.of(2, 3);
+        List<String> inner = Arrays.asList("foo", "ab", "foobar", "bar");
+
+        Enumerable<String> joined = lengths.join(inner, x -> x, String::length, (l, w) -> l + w);
+
+        // Results follow the streamed inner side.
+        assertThat(joined, contains("3foo", "2ab", "3bar"));
+        assertThat(joined.count(), is(3));
+    }
+
+    @Test
+    public void unmatchedItemsAreKeptInLeftJoin() {
+        Enumerable<Integer> lengths = Enumerable.of(3);
+
+        Enumerable<String> joined = words.leftJoin(lengths, String::length, x -> x, (w, l) -> w + l);
+
+        assertThat(joined, contains("foo3", "bar3", "foobarnull", "baz3", "abnull"));
+    }
+
+    @Test
+    public void joinIsPushed() {
+        List<String> pushed = new ArrayList<>();
+
+        words.leftJoin(Enumerable.of(3, 3), String::length, x -> x, (w, l) -> w + l)
+                .limit(3)
+                .forEach(x -> pushed.add(x));
+
+        assertThat(pushed, contains("foo3", "foo3", "bar3"));
+    }
+
+    @Test
+    public void joinIsLazy() {
+        Enumerable<Integer> infinite = new Enumerable<>(() -> new FunctionIterator<>(1, x -> x + 1, i -> true));
+
+        Enumerable<String> joined = infinite.join(Arrays.asList("a", "b", "c"), x -> x % 2, x -> 1, (i, s) -> i + s);
+
+        assertThat(joined.limit(4), contains("1a", "1b", "1c", "3a"));
+    }
+
+    @Test
+    public void itemsAreGroupJoined() {
+        Enumerable<Integer> lengths = Enumerable.of(3, 4, 6);
+
+        Enumerable<String> joined = lengths.groupJoin(words, x -> x, String::length,
+                (l, matches) -> l + ":" + matches.count());
+
+        assertThat(joined, contains("3:3", "4:0", "6:1"));
+        assertThat(lengths.groupJoin(words, x -> x, String::length, (l, matches) -> matches).findFirst().get(),
+                containsInAnyOrder("foo", "bar", "baz"));
+    }
+}
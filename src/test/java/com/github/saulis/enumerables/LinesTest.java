@@ -0,0 +1,111 @@
+package com.github.saulis.enumerables;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+
+public class LinesTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void linesAreRead() throws IOException {
+        Path path = write("foo\nbar\r\n\nbaz");
+
+        Enumerable<String> lines = Enumerable.lines(path).map(Line::toString);
+
+        assertThat(lines, contains("foo", "bar", "", "baz"));
+        assertThat(lines.toList(), contains("foo", "bar", "", "baz"));
+    }
+
+    @Test
+    public void trailingLineBreakDoesNotAddLine() throws IOException {
+        assertThat(Enumerable.lines(write("foo\nbar\n")).count(), is(2));
+        assertThat(Enumerable.lines(write("")).isEmpty(), is(true));
+    }
+
+    @Test
+    public void linesAreViewsIntoFile() throws IOException {
+        Enumerable<Line> lines = Enumerable.lines(write("GET /foo\nPOST /bar\nGET /baz"));
+
+        List<String> gets = lines.filter(x -> x.length() > 0 && x.charAt(0) == 'G').map(Line::toString).toList();
+
+        assertThat(gets, contains("GET /foo", "GET /baz"));
+        assertThat(lines.filter(x -> x.contains("/ba")).count(), is(2));
+
+        Iterator<Line> iterator = lines.iterator();
+        assertThat(iterator.next(), is(iterator.next()));
+    }
+
+    @Test
+    public void nonAsciiLinesAreDecoded() throws IOException {
+        Line line = Enumerable.lines(write("ab\n\u00e4\u00e4kk\u00f6nen\n\u20ac")).elementAt(1).get();
+
+        assertThat(line.length(), is(8));
+        assertThat(line.charAt(1), is('\u00e4'));
+        assertThat(line.byteLength(), is(11));
+        assertThat(line.contains("kk\u00f6"), is(true));
+        assertThat(Enumerable.lines(write("ab\n\u00e4\u00e4kk\u00f6nen\n\u20ac")).map(Line::toString), contains("ab", "\u00e4\u00e4kk\u00f6nen", "\u20ac"));
+    }
+
+    @Test
+    public void linesAreJoined() throws IOException {
+        Path path = write("foo\n\u00e4\u00e4kk\u00f6nen\n\nbar");
+
+        assertThat(Enumerable.lines(path).joinTo(new StringBuilder(), ", ").toString(),
+                is("foo, \u00e4\u00e4kk\u00f6nen, , bar"));
+        assertThat(Enumerable.lines(path).joinTo(new StringBuffer(), "|").toString(),
+                is("foo|\u00e4\u00e4kk\u00f6nen||bar"));
+    }
+
+    @Test
+    public void fileIsMappedInChunks() throws IOException {
+        Path path = write("foo\nfoobar\nba\nbazbaz\n\nx");
+
+        Enumerable<String> lines = new Enumerable<>(() -> new LineIterator(path, StandardCharsets.UTF_8, 8))
+                .map(Line::toString);
+
+        assertThat(lines, contains("foo", "foobar", "ba", "bazbaz", "", "x"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void linesCannotBeLongerThanChunk() throws IOException {
+        Path path = write("foo\nfoobarfoobar\nbar");
+
+        new Enumerable<>(() -> new LineIterator(path, StandardCharsets.UTF_8, 8)).count();
+    }
+
+    @Test
+    public void linesAreDetachedInParallel() throws IOException {
+        StringBuilder builder = new StringBuilder();
+
+        for(int i=1;i<=5000;i++) {
+            builder.append(i).append('\n');
+        }
+
+        Enumerable<String> lines = Enumerable.lines(write(builder.toString())).parallel().map(Line::toString);
+
+        assertThat(lines.toList().size(), is(5000));
+        assertThat(lines.toList().get(4999), is("5000"));
+        assertThat(lines.mapToLong(Long::parseLong).sum(), is(12502500L));
+    }
+
+    private Path write(String contents) throws IOException {
+        Path path = folder.newFile().toPath();
+        Files.write(path, contents.getBytes(StandardCharsets.UTF_8));
+
+        return path;
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.saulis.enumerables;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+
+public class MapParallelTest {
+
+    @Test
+    public void orderIsPreserved() {
+        Enumerable<Integer> mapped = Enumerable.range(1, 5).mapParallel(x -> {
+            sleep(10 * (5 - x));
+            return x * 2;
+        }, 3);
+
+        assertThat(mapped, contains(2, 4, 6, 8, 10));
+        assertThat(mapped.toList(), contains(2, 4, 6, 8, 10));
+    }
+
+    @Test
+    public void itemsAreReturnedInCompletionOrder() {
+        List<Integer> mapped = Enumerable.of(300, 10).mapParallelUnordered(x -> {
+            sleep(x);
+            return x;
+        }, 2).toList();
+
+        assertThat(mapped, contains(10, 300));
+        assertThat(Enumerable.range(1, 100).mapParallelUnordered(x -> x, 8).toList().size(), is(100));
+    }
+
+    @Test
+    public void concurrencyIsBounded() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        Enumerable.range(1, 40).mapParallel(x -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(2);
+            running.decrementAndGet();
+            return x;
+        }, 4).toList();
+
+        assertThat(maxRunning.get(), lessThanOrEqualTo(4));
+    }
+
+    @Test
+    public void providedExecutorIsUsed() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2, r -> new Thread(r, "mapper"));
+
+        try {
+            assertThat(Enumerable.of(1, 2).mapParallel(x -> Thread.currentThread().getName(), 2, executor),
+                    contains("mapper", "mapper"));
+            assertThat(Enumerable.of(1, 2).mapParallelUnordered(x -> Thread.currentThread().getName(), 2, executor),
+                    containsInAnyOrder("mapper", "mapper"));
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void exceptionsArePropagated() {
+        Enumerable.range(1, 10).mapParallel(x -> {
+            if(x == 3) {
+                throw new IllegalStateException();
+            }
+            return x;
+        }, 2).toList();
+    }
+
+    @Test
+    public void mappingsAreCancelledWhenIterationEndsEarly() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(3);
+        CountDownLatch cancelled = new CountDownLatch(3);
+
+        Integer first = Enumerable.range(1, 4).mapParallel(x -> {
+            try {
+                if(x == 1) {
+                    started.await();
+                    return x;
+                }
+                started.countDown();
+                Thread.sleep(10000);
+            } catch (InterruptedException e) {
+                cancelled.countDown();
+            }
+            return x;
+        }, 4).findFirst().get();
+
+        assertThat(first, is(1));
+        assertThat(cancelled.await(5, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void concurrencyMustBePositive() {
+        Enumerable.of(1).mapParallel(x -> x, 0);
+    }
+
+    private static void sleep(int millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
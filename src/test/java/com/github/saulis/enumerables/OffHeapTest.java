@@ -0,0 +1,81 @@
+package com.github.saulis.enumerables;
+
+import org.junit.Test;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.PrimitiveIterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class OffHeapTest {
+
+    @Test
+    public void intsAreCopiedOffHeap() {
+        try(OffHeapInts ints = IntEnumerable.range(1, 5).copyOffHeap()) {
+            assertThat(ints.toArray(), is(new int[] { 1, 2, 3, 4, 5 }));
+            assertThat(ints.filter(x -> x % 2 == 0).sum(), is(6L));
+            assertThat(ints.count(), is(5));
+            assertThat(ints.byteSize(), is(20L));
+        }
+    }
+
+    @Test
+    public void copySpansMultipleChunks() {
+        try(OffHeapLongs longs = LongEnumerable.range(1, 100000).copyOffHeap()) {
+            assertThat(longs.count(), is(100000));
+            assertThat(longs.size(), is(100000L));
+            assertThat(longs.sum(), is(5000050000L));
+            assertThat(longs.iterator().nextLong(), is(1L));
+            assertThat(longs.skip(99999).findFirst().getAsLong(), is(100000L));
+        }
+    }
+
+    @Test
+    public void doublesAreCopiedOffHeap() {
+        try(OffHeapDoubles doubles = DoubleEnumerable.of(1.5, -2.0, Double.NaN).copyOffHeap()) {
+            assertThat(doubles.limit(2).toArray(), is(new double[] { 1.5, -2.0 }));
+            assertThat(Double.isNaN(doubles.skip(2).findFirst().getAsDouble()), is(true));
+        }
+    }
+
+    @Test
+    public void emptyEnumerableIsCopied() {
+        try(OffHeapInts ints = IntEnumerable.empty().copyOffHeap()) {
+            assertThat(ints.isEmpty(), is(true));
+            assertThat(ints.count(), is(0));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void closedCopyCannotBeIterated() {
+        OffHeapInts ints = IntEnumerable.of(1, 2).copyOffHeap();
+        ints.close();
+
+        ints.sum();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void openIteratorCannotReadClosedCopy() {
+        OffHeapInts ints = IntEnumerable.of(1, 2).copyOffHeap();
+        PrimitiveIterator.OfInt iterator = ints.iterator();
+        iterator.nextInt();
+        ints.close();
+
+        iterator.nextInt();
+    }
+
+    @Test
+    public void closingFreesDirectMemory() {
+        BufferPoolMXBean direct = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(x -> x.getName().equals("direct")).findFirst().get();
+        OffHeapLongs longs = LongEnumerable.range(1, 1000000).copyOffHeap();
+        long used = direct.getMemoryUsed();
+
+        longs.close();
+        longs.close();
+
+        assertThat(used - direct.getMemoryUsed() >= longs.byteSize(), is(true));
+    }
+}
@@ -1,15 +1,28 @@
 package com.github.saulis.enumerables;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class OrderTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void itemsAreSorted() {
         Enumerable<String> strings = Enumerable.of("foo", "br", "bar4");
@@ -60,10 +73,146 @@ public class OrderTest {
         assertThat(enumerable.min(x -> x).get(), is(-3));
     }
 
+    @Test
+    public void firstOfEqualMaximumsIsReturned() {
+        Enumerable<String> strings = Enumerable.of("br", "foo", "bar", "ba");
+
+        assertThat(strings.max(x -> x.length()).get(), is("foo"));
+        assertThat(strings.min(x -> x.length()).get(), is("br"));
+    }
+
+    @Test
+    public void emptyMinIsNotPresent() {
+        Enumerable<Integer> empty = Enumerable.empty();
+
+        assertFalse(empty.min(x -> x).isPresent());
+    }
+
+    @Test
+    public void topItemsAreTaken() {
+        Enumerable<Integer> ints = Enumerable.of(5, 1, 4, 2, 3, 0);
+
+        assertThat(ints.orderBy(x -> x).limit(3), contains(0, 1, 2));
+        assertThat(ints.orderByDescending(x -> x).limit(2), contains(5, 4));
+        assertThat(ints.orderBy(x -> x).limit(10), contains(0, 1, 2, 3, 4, 5));
+        assertTrue(ints.orderBy(x -> x).limit(0).isEmpty());
+    }
+
+    @Test
+    public void topItemsAreOrderedStably() {
+        Enumerable<String> strings = Enumerable.of("bb", "a", "cc", "d", "ee", "f");
+
+        assertThat(strings.orderBy(x -> x.length()).limit(2), contains("a", "d"));
+        assertThat(strings.orderByDescending(x -> x.length()).limit(2), contains("bb", "cc"));
+        assertThat(strings.orderBy(x -> x.length()).findFirst().get(), is("a"));
+    }
+
     @Test
     public void enumerableIsReversed() {
         assertThat(Enumerable.of(1, 2, 3).reverse(), contains(3, 2, 1));
     }
 
+    @Test
+    public void spilledItemsAreSorted() {
+        List<Integer> ints = Enumerable.of(() -> new Random(1).ints(2000, 0, 1000).iterator()).toList();
+        SortOptions<Integer> options = SortOptions.spill(Serializer.<Integer>serializable())
+                .runSize(50).mergeWidth(8).directory(folder.getRoot().toPath());
+
+        Enumerable<Integer> sorted = Enumerable.of(ints).orderBy(Comparator.naturalOrder(), options);
+
+        assertThat(sorted.toList(), is(Enumerable.of(ints).orderBy(x -> x).toList()));
+        assertThat(sorted.count(), is(2000));
+        assertThat(folder.getRoot().list().length, is(0));
+    }
+
+    @Test
+    public void spilledItemsAreOrderedStably() {
+        SortOptions<String> options = SortOptions.spill(Serializer.strings()).runSize(2).mergeWidth(2)
+                .directory(folder.getRoot().toPath());
+
+        Enumerable<String> strings = Enumerable.of("bb", "a", "cc", "d", "ee", "f", null, "g");
+
+        assertThat(strings.orderBy(Comparator.nullsFirst(Comparator.comparing(String::length)), options),
+                contains(null, "a", "d", "f", "g", "bb", "cc", "ee"));
+    }
 
+    @Test
+    public void smallInputsAreNotSpilled() {
+        SortOptions<String> options = SortOptions.spill(Serializer.strings()).directory(folder.getRoot().toPath());
+
+        Iterator<String> iterator = Enumerable.of("b", "c", "a").orderBy(Comparator.naturalOrder(), options).iterator();
+
+        assertThat(iterator.next(), is("a"));
+        assertThat(folder.getRoot().list().length, is(0));
+    }
+
+    @Test
+    public void spilledFilesAreDeletedOnEarlyTermination() throws Exception {
+        File root = folder.getRoot();
+        SortOptions<String> options = SortOptions.spill(Serializer.strings()).runSize(10).directory(root.toPath());
+        Enumerable<String> sorted = Enumerable.range(1, 1000).map(x -> Integer.toString(x))
+                .orderBy(Comparator.naturalOrder(), options);
+
+        assertThat(sorted.findFirst().get(), is("1"));
+        assertThat(sorted.limit(20).toList(), is(sorted.toList().subList(0, 20)));
+        assertThat(sorted.skip(1).anyMatch(x -> x.equals("10")), is(true));
+        assertThat(root.list().length, is(0));
+
+        Iterator<String> iterator = sorted.iterator();
+        iterator.next();
+
+        assertThat(root.list().length, is(1));
+
+        ((AutoCloseable) iterator).close();
+
+        assertThat(root.list().length, is(0));
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void manyRunsAreMergedInPasses() {
+        SortOptions<String> options = SortOptions.spill(Serializer.strings()).runSize(3).mergeWidth(3)
+                .directory(folder.getRoot().toPath());
+        Enumerable<String> strings = Enumerable.range(1, 500).map(x -> (x % 7) + ":" + x);
+
+        assertThat(strings.orderBy(Comparator.comparing(x -> x.charAt(0)), options).toList(),
+                is(strings.orderBy(x -> x.charAt(0)).toList()));
+        assertThat(folder.getRoot().list().length, is(0));
+    }
+
+    @Test
+    public void spilledFilesAreDeletedWhenStreamIsClosed() {
+        SortOptions<String> options = SortOptions.spill(Serializer.strings()).runSize(10)
+                .directory(folder.getRoot().toPath());
+        Enumerable<String> sorted = Enumerable.range(1, 1000).map(x -> Integer.toString(x))
+                .orderBy(Comparator.naturalOrder(), options);
+
+        try(Stream<String> stream = sorted.stream()) {
+            assertThat(stream.findFirst().get(), is("1"));
+            assertThat(folder.getRoot().list().length, is(1));
+        }
+
+        assertThat(folder.getRoot().list().length, is(0));
+    }
+
+    @Test
+    public void spilledFilesOfAbandonedIteratorsAreDeleted() throws InterruptedException {
+        SortOptions<String> options = SortOptions.spill(Serializer.strings()).runSize(10)
+                .directory(folder.getRoot().toPath());
+        Enumerable<String> sorted = Enumerable.range(1, 1000).map(x -> Integer.toString(x))
+                .orderBy(Comparator.naturalOrder(), options);
+
+        assertThat(sorted.zip(Enumerable.range(1, 1000), (x, i) -> x + i).limit(1).toList(), contains("11"));
+        assertThat(sorted.window(2).limit(1).toList().size(), is(1));
+
+        assertThat(folder.getRoot().list().length, is(1));
+
+        for(int i=0;i<50 && folder.getRoot().list().length > 0;i++) {
+            System.gc();
+            Thread.sleep(20);
+            ExternalSortIterator.deleteAbandoned();
+        }
+
+        assertThat(folder.getRoot().list().length, is(0));
+    }
 }
@@ -0,0 +1,109 @@
+package com.github.saulis.enumerables;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelTest {
+
+    @Test
+    public void arraySpliteratorIsSized() {
+        Spliterator<Integer> spliterator = Enumerable.of(1, 2, 3).spliterator();
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertThat(spliterator.getExactSizeIfKnown(), is(3L));
+    }
+
+    @Test
+    public void collectionSpliteratorIsSized() {
+        List<String> list = new ArrayList<>();
+        list.add("foo");
+        list.add("bar");
+
+        Spliterator<Integer> spliterator = Enumerable.of(list).map(x -> x.length()).spliterator();
+
+        assertThat(spliterator.getExactSizeIfKnown(), is(2L));
+    }
+
+    @Test
+    public void filteredSpliteratorIsNotSized() {
+        Spliterator<Integer> spliterator = Enumerable.of(1, 2, 3).filter(x -> x > 1).spliterator();
+
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+    }
+
+    @Test
+    public void parallelModeIsKept() {
+        Enumerable<Integer> parallel = Enumerable.range(1, 10).parallel();
+
+        assertTrue(parallel.map(x -> x * 2).filter(x -> x > 2).isParallel());
+        assertFalse(parallel.sequential().isParallel());
+    }
+
+    @Test
+    public void parallelResultsAreOrdered() {
+        Enumerable<Integer> ints = Enumerable.range(1, 10000)
+                                             .parallel()
+                                             .filter(x -> x % 2 == 0)
+                                             .map(x -> x / 2);
+
+        assertThat(ints.count(), is(5000));
+        assertThat(ints.toList(), is(Enumerable.range(1, 5000).toList()));
+        assertThat(ints.reduce(0L, (acc, x) -> acc + x, (a, b) -> a + b), is(12502500L));
+    }
+
+    @Test
+    public void parallelItemsAreGrouped() {
+        Map<Integer, List<Integer>> groups = Enumerable.range(1, 100).parallel().groupBy(x -> x % 3);
+
+        assertThat(groups.get(0).size(), is(33));
+        assertThat(groups.get(1).get(0), is(1));
+    }
+
+    @Test
+    public void providedPoolIsUsed() {
+        ForkJoinPool pool = new ForkJoinPool(2, p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("provided-" + thread.getName());
+
+            return thread;
+        }, null, false);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        long sum;
+
+        try {
+            sum = Enumerable.range(1, 1000)
+                            .parallel(pool)
+                            .map(x -> threads.add(Thread.currentThread()) ? x : x)
+                            .reduce(0L, (acc, x) -> acc + x, (x, y) -> x + y);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(sum, is(500500L));
+        assertThat(threads.isEmpty(), is(false));
+        assertThat(Enumerable.of(threads).allMatch(x -> x.getName().startsWith("provided-")), is(true));
+    }
+
+    @Test
+    public void collectorFinisherIsApplied() {
+        String joined = Enumerable.of("foo", "bar").collect(Collectors.joining(","));
+
+        assertThat(joined, is("foo,bar"));
+        assertThat(Enumerable.of("foo", "bar").parallel().collect(Collectors.toList()), contains("foo", "bar"));
+    }
+}
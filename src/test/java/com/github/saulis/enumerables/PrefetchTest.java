@@ -0,0 +1,85 @@
+package com.github.saulis.enumerables;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+
+public class PrefetchTest {
+
+    @Test
+    public void itemsArePrefetchedInOrder() {
+        Enumerable<String> prefetched = Enumerable.of(Arrays.asList("foo", null, "bar")).prefetch(2);
+
+        assertThat(prefetched, contains("foo", null, "bar"));
+        assertThat(prefetched.toList(), contains("foo", null, "bar"));
+        assertThat(Enumerable.range(1, 10000).prefetch(16).reduce(0L, (acc, x) -> acc + x), is(50005000L));
+    }
+
+    @Test
+    public void itemsAreProducedOnBackgroundThread() {
+        Thread caller = Thread.currentThread();
+        List<Thread> producers = new ArrayList<>();
+
+        Enumerable.range(1, 3).peek(x -> producers.add(Thread.currentThread())).prefetch(1).toList();
+
+        assertThat(producers.size(), is(3));
+        assertThat(producers.contains(caller), is(false));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void exceptionsArePropagated() {
+        Enumerable.range(1, 10).map(x -> {
+            if(x == 5) {
+                throw new IllegalStateException();
+            }
+            return x;
+        }).prefetch(4).toList();
+    }
+
+    @Test
+    public void productionStopsWhenIterationEndsEarly() throws InterruptedException {
+        AtomicInteger produced = new AtomicInteger();
+        Enumerable<Integer> infinite = new Enumerable<>(() -> new FunctionIterator<>(1, x -> x + 1, i -> true))
+                .peek(x -> produced.incrementAndGet());
+
+        assertThat(infinite.prefetch(4).limit(3).toList(), contains(1, 2, 3));
+
+        Thread.sleep(300);
+        int stoppedAt = produced.get();
+        Thread.sleep(300);
+
+        assertThat(produced.get(), is(stoppedAt));
+        assertThat(stoppedAt, lessThanOrEqualTo(3 + 4 + 2));
+    }
+
+    @Test
+    public void closedIteratorStopsProduction() throws InterruptedException {
+        AtomicInteger produced = new AtomicInteger();
+        Enumerable<Integer> infinite = new Enumerable<>(() -> new FunctionIterator<>(1, x -> x + 1, i -> true))
+                .peek(x -> produced.incrementAndGet());
+
+        PrefetchIterator<Integer> iterator = new PrefetchIterator<>(infinite::traverse, 4);
+        iterator.next();
+        iterator.close();
+
+        Thread.sleep(300);
+        int stoppedAt = produced.get();
+        Thread.sleep(300);
+
+        assertThat(produced.get(), is(stoppedAt));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void capacityMustBePositive() {
+        Enumerable.of(1).prefetch(0);
+    }
+}
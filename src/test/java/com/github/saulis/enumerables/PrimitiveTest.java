@@ -0,0 +1,100 @@
+package com.github.saulis.enumerables;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PrimitiveTest {
+
+    @Test
+    public void ascendingIntRangeIsConstructed() {
+        assertArrayEquals(new int[] { 1, 2, 3, 4, 5 }, IntEnumerable.range(1, 5).toArray());
+    }
+
+    @Test
+    public void descendingIntRangeIsConstructed() {
+        assertArrayEquals(new int[] { 2, 1, 0, -1 }, IntEnumerable.range(2, -1).toArray());
+    }
+
+    @Test
+    public void intRangeIsIterated() {
+        assertThat(IntEnumerable.range(1, 3).boxed(), contains(1, 2, 3));
+    }
+
+    @Test
+    public void longRangeIsConstructed() {
+        assertArrayEquals(new long[] { 3, 2, 1 }, LongEnumerable.range(3, 1).toArray());
+        assertArrayEquals(new long[] { Long.MAX_VALUE - 1, Long.MAX_VALUE },
+                          LongEnumerable.range(Long.MAX_VALUE - 1, Long.MAX_VALUE).toArray());
+    }
+
+    @Test
+    public void intsAreFilteredAndMapped() {
+        IntEnumerable evens = IntEnumerable.range(1, 10)
+                                           .filter(x -> x % 2 == 0)
+                                           .map(x -> x * 10);
+
+        assertArrayEquals(new int[] { 20, 40, 60, 80, 100 }, evens.toArray());
+        assertThat(evens.boxed(), contains(20, 40, 60, 80, 100));
+    }
+
+    @Test
+    public void intsAreLimitedAndSkipped() {
+        IntEnumerable ints = IntEnumerable.range(1, 10).skip(2).limit(3);
+
+        assertArrayEquals(new int[] { 3, 4, 5 }, ints.toArray());
+        assertThat(ints.boxed(), contains(3, 4, 5));
+        assertThat(ints.count(), is(3));
+    }
+
+    @Test
+    public void intsAreAggregated() {
+        IntEnumerable ints = IntEnumerable.of(3, -1, 7);
+
+        assertThat(ints.sum(), is(9L));
+        assertThat(ints.min().getAsInt(), is(-1));
+        assertThat(ints.max().getAsInt(), is(7));
+        assertThat(ints.average().getAsDouble(), is(3.0));
+        assertThat(ints.reduce(1, (acc, x) -> acc * x), is(-21));
+    }
+
+    @Test
+    public void intSumDoesNotOverflow() {
+        assertThat(IntEnumerable.of(Integer.MAX_VALUE, Integer.MAX_VALUE).sum(),
+                   is(2L * Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void emptyAggregatesAreNotPresent() {
+        assertFalse(IntEnumerable.empty().min().isPresent());
+        assertFalse(LongEnumerable.empty().max().isPresent());
+        assertFalse(DoubleEnumerable.empty().average().isPresent());
+        assertThat(DoubleEnumerable.empty().sum(), is(0.0));
+    }
+
+    @Test
+    public void itemsAreMappedToPrimitives() {
+        Enumerable<String> strings = Enumerable.of("foo", "foobar", "ba");
+
+        assertThat(strings.mapToInt(x -> x.length()).sum(), is(11L));
+        assertThat(strings.mapToLong(x -> x.length()).max().getAsLong(), is(6L));
+        assertThat(strings.mapToDouble(x -> x.length() / 2.0).sum(), is(5.5));
+        assertThat(strings.mapToInt(x -> x.length()).mapToObj(x -> x + "!"),
+                   contains("3!", "6!", "2!"));
+    }
+
+    @Test
+    public void primitivesAreMatched() {
+        DoubleEnumerable doubles = DoubleEnumerable.of(1.5, 2.5);
+
+        assertTrue(doubles.allMatch(x -> x > 1));
+        assertTrue(doubles.anyMatch(x -> x > 2));
+        assertFalse(doubles.noneMatch(x -> x > 2));
+        assertThat(doubles.findFirst().getAsDouble(), is(1.5));
+    }
+}
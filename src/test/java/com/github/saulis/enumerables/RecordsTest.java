@@ -0,0 +1,108 @@
+package com.github.saulis.enumerables;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+
+public class RecordsTest {
+    private static final int ID = 0;
+    private static final int PRICE = 4;
+    private static final int SIZE = 12;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void recordsAreRead() throws IOException {
+        Enumerable<Record> records = Enumerable.records(write(100, ByteOrder.BIG_ENDIAN, 0), SIZE);
+
+        assertThat(records.count(), is(100));
+        assertThat(records.filter(x -> x.getInt(ID) % 10 == 0).map(x -> x.getInt(ID)).toList(),
+                contains(10, 20, 30, 40, 50, 60, 70, 80, 90, 100));
+        assertThat(records.mapToDouble(x -> x.getDouble(PRICE)).sum(), is(2525.0));
+    }
+
+    @Test
+    public void recordsAreAccessedByIndex() throws IOException {
+        Enumerable<Record> records = Enumerable.records(write(100, ByteOrder.BIG_ENDIAN, 0), SIZE);
+
+        assertThat(records.elementAt(41).get().getInt(ID), is(42));
+        assertThat(records.elementAt(41).get().index(), is(41L));
+        assertThat(records.skip(97).map(x -> x.getInt(ID)), contains(98, 99, 100));
+    }
+
+    @Test
+    public void accessorIsReused() throws IOException {
+        Iterator<Record> iterator = Enumerable.records(write(3, ByteOrder.BIG_ENDIAN, 0), SIZE).iterator();
+        Record first = iterator.next();
+        Record detached = first.detach();
+
+        assertThat(iterator.next(), sameInstance(first));
+        assertThat(first.getInt(ID), is(2));
+        assertThat(detached.getInt(ID), is(1));
+    }
+
+    @Test
+    public void accessorIsReusedWhenIteratingByIndex() throws IOException {
+        Enumerable<Record> records = Enumerable.records(write(10, ByteOrder.BIG_ENDIAN, 0), SIZE);
+        Iterator<Record> iterator = records.skip(2).reverse().iterator();
+        Record first = iterator.next();
+
+        assertThat(first.getInt(ID), is(10));
+        assertThat(iterator.next(), sameInstance(first));
+        assertThat(first.getInt(ID), is(9));
+        assertThat(records.elementAt(1).get(), not(sameInstance(records.elementAt(2).get())));
+    }
+
+    @Test
+    public void partialRecordIsIgnored()throws IOException {
+        Enumerable<Record> records = Enumerable.records(write(3, ByteOrder.LITTLE_ENDIAN, 5), SIZE,
+                ByteOrder.LITTLE_ENDIAN);
+
+        assertThat(records.map(x -> x.getInt(ID)), contains(1, 2, 3));
+    }
+
+    @Test
+    public void fileIsMappedInChunks() throws IOException {
+        RecordFile file = new RecordFile(write(10, ByteOrder.BIG_ENDIAN, 0), SIZE, ByteOrder.BIG_ENDIAN, 40);
+        Enumerable<Integer> ids = new Enumerable<>(() -> new RecordIterator(file)).map(x -> x.getInt(ID));
+
+        assertThat(ids, contains(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+        assertThat(file.get(9).getDouble(PRICE), is(5.0));
+    }
+
+    @Test
+    public void recordsAreSplitInParallel() throws IOException {
+        Enumerable<Record> records = Enumerable.records(write(10000, ByteOrder.BIG_ENDIAN, 0), SIZE).parallel();
+
+        assertThat(records.mapToLong(x -> x.getInt(ID)).sum(), is(50005000L));
+        assertThat(records.map(x -> x.getInt(ID)).toList().get(9999), is(10000));
+    }
+
+    private Path write(int count, ByteOrder order, int extraBytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(count * SIZE + extraBytes).order(order);
+
+        for(int i=1;i<=count;i++) {
+            buffer.putInt(i);
+            buffer.putDouble(i / 2.0);
+        }
+
+        Path path = folder.newFile().toPath();
+        Files.write(path, buffer.array());
+
+        return path;
+    }
+}
@@ -2,10 +2,33 @@ package com.github.saulis.enumerables;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public class SizeTest {
+    private final List<Integer> uniterableList = new ArrayList<Integer>(Arrays.asList(1, 2, 3)) {
+        @Override
+        public Iterator<Integer> iterator() {
+            throw new UnsupportedOperationException();
+        }
+    };
+
+    private final Set<Integer> uniterableSet = new HashSet<Integer>(Arrays.asList(1, 2, 3)) {
+        @Override
+        public Iterator<Integer> iterator() {
+            throw new UnsupportedOperationException();
+        }
+    };
+
     @Test
     public void sizeIsExactly() {
         Enumerable<Integer> enumerable = Enumerable.of(1, 1, 2, 3, 5, 8);
@@ -52,4 +75,64 @@ public class SizeTest {
     public void negativeSizeIsLessThan() {
         assertFalse(Enumerable.empty().sizeIsLessThan(-1));
     }
+
+    @Test
+    public void collectionSizeIsKnownWithoutIterating() {
+        Enumerable<Integer> enumerable = Enumerable.of(uniterableList);
+
+        assertThat(enumerable.count(), is(3));
+        assertTrue(enumerable.sizeIsExactly(3));
+        assertTrue(enumerable.sizeIsGreaterThan(2));
+        assertTrue(enumerable.sizeIsLessThan(4));
+        assertFalse(enumerable.isEmpty());
+    }
+
+    @Test
+    public void sizeIsKnownAfterMapLimitAndSkip() {
+        Enumerable<String> enumerable = Enumerable.of(uniterableList).map(x -> x.toString());
+
+        assertThat(enumerable.count(), is(3));
+        assertThat(enumerable.limit(2).count(), is(2));
+        assertThat(enumerable.skip(1).count(), is(2));
+        assertTrue(enumerable.skip(5).isEmpty());
+    }
+
+    @Test
+    public void sizeOfChangedCollectionIsKnown() {
+        List<Integer> list = new ArrayList<>();
+        Enumerable<Integer> enumerable = Enumerable.of(list);
+
+        list.add(1);
+
+        assertThat(enumerable.count(), is(1));
+    }
+
+    @Test
+    public void rangeSizeIsKnown() {
+        assertThat(Enumerable.range(5, -4).count(), is(10));
+    }
+
+    @Test
+    public void peekedItemsAreCounted() {
+        List<Integer> peeked = new ArrayList<>();
+
+        assertThat(Enumerable.of(1, 2, 3).peek(x -> peeked.add(x)).count(), is(3));
+        assertThat(peeked.size(), is(3));
+    }
+
+    @Test
+    public void setIsUsedForContains() {
+        Enumerable<Integer> enumerable = Enumerable.of(uniterableSet);
+
+        assertTrue(enumerable.contains(2));
+        assertFalse(enumerable.contains(4));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void oversizedCountIsNotTruncated() {
+        Capabilities<Long> capabilities = Capabilities.of(() -> 1L << 32, i -> i);
+
+        new Enumerable<>(() -> new IndexIterator<>(capabilities), new IndexTraversal<>(capabilities),
+                () -> new IndexSpliterator<>(capabilities), capabilities).count();
+    }
 }
@@ -0,0 +1,75 @@
+package com.github.saulis.enumerables;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SliceTest {
+    private final List<Integer> uniterableList = new ArrayList<Integer>(Arrays.asList(1, 2, 3, 4, 5)) {
+        @Override
+        public Iterator<Integer> iterator() {
+            throw new UnsupportedOperationException();
+        }
+    };
+
+    @Test
+    public void elementIsReturnedByIndex() {
+        Enumerable<Integer> ints = Enumerable.of(1, 2, 3);
+
+        assertThat(ints.elementAt(1).get(), is(2));
+        assertFalse(ints.elementAt(3).isPresent());
+        assertFalse(ints.elementAt(-1).isPresent());
+    }
+
+    @Test
+    public void elementIsReturnedByIndexWithoutRandomAccess() {
+        Enumerable<Integer> ints = Enumerable.of(new LinkedList<>(Arrays.asList(1, 2, 3)));
+
+        assertThat(ints.elementAt(2).get(), is(3));
+        assertFalse(ints.elementAt(3).isPresent());
+    }
+
+    @Test
+    public void enumerableIsSliced() {
+        assertThat(Enumerable.of(1, 2, 3, 4, 5).slice(1, 3), contains(2, 3));
+        assertThat(Enumerable.range(1, 10).filter(x -> x > 2).slice(1, 3), contains(4, 5));
+        assertTrue(Enumerable.of(1, 2, 3).slice(2, 1).isEmpty());
+        assertThat(Enumerable.of(1, 2, 3).slice(-1, 2), contains(1, 2));
+    }
+
+    @Test
+    public void randomAccessSourceIsNotIterated() {
+        Enumerable<Integer> ints = Enumerable.of(uniterableList);
+
+        assertThat(ints.skip(3), contains(4, 5));
+        assertThat(ints.slice(1, 3).toList(), contains(2, 3));
+        assertThat(ints.reverse().limit(2), contains(5, 4));
+        assertThat(ints.map(x -> x * 10).findLast().get(), is(50));
+    }
+
+    @Test
+    public void reversedRandomAccessSourceIsSized() {
+        assertThat(Enumerable.of(1, 2, 3).reverse().spliterator().getExactSizeIfKnown(), is(3L));
+    }
+
+    @Test
+    public void lastItemIsFoundWithoutRandomAccess() {
+        assertThat(Enumerable.of(1, 2, 3).filter(x -> x < 3).findLast().get(), is(2));
+        assertFalse(Enumerable.of(1, 2, 3).filter(x -> x > 3).findLast().isPresent());
+    }
+
+    @Test
+    public void enumerableWithoutRandomAccessIsReversed() {
+        assertThat(Enumerable.range(1, 5).filter(x -> x % 2 == 1).reverse(), contains(5, 3, 1));
+    }
+}
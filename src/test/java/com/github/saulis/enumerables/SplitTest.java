@@ -3,6 +3,7 @@ package com.github.saulis.enumerables;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -66,4 +67,52 @@ public class SplitTest {
         assertThat(split[2].limit(5), contains(1,5,7,11,13));
         assertThat(itemsFetched.size(), is(15));
     }
+
+    @Test
+    public void itemsMatchingMultiplePredicatesAreInEachSplit() {
+        Enumerable<Integer>[] split = Enumerable.range(1, 6).split(x -> x % 2 == 0, x -> x % 3 == 0);
+
+        assertThat(split[0], contains(2, 4, 6));
+        assertThat(split[1], contains(3, 6));
+        assertThat(split[2], contains(1, 5));
+    }
+
+    @Test
+    public void splitBuffersAreBounded() {
+        List<Integer> itemsFetched = new ArrayList<>();
+        Enumerable<Integer> ints = Enumerable.range(1, 100).peek(x -> itemsFetched.add(x));
+        IteratorSplitter<Integer> splitter =
+                new IteratorSplitter<>(ints, 4, (x, i) -> x % 2 == 0);
+
+        Enumerable<Integer> evens = new Enumerable<>(() -> splitter.getIterator(0));
+        Enumerable<Integer> odds = new Enumerable<>(() -> splitter.getIterator(1));
+
+        assertThat(evens.count(), is(50));
+        assertThat(splitter.getBuffer(1).size(), is(4));
+        assertThat(itemsFetched.size(), is(100));
+
+        assertThat(odds.toList(), is(Enumerable.range(1, 100).filter(x -> x % 2 != 0).toList()));
+        assertThat(itemsFetched.size(), is(200));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void laggingSplitOfSingleUseSourceFails() {
+        Iterator<Integer> iterator = Enumerable.range(1, 100).iterator();
+        Iterable<Integer> once = () -> iterator;
+        IteratorSplitter<Integer> splitter = new IteratorSplitter<>(once, 4, (x, i) -> x % 2 == 0);
+
+        new Enumerable<>(() -> splitter.getIterator(0)).count();
+        new Enumerable<>(() -> splitter.getIterator(1)).count();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void laggingSplitOfWrappedSingleUseSourceFails() {
+        Iterator<Integer> iterator = Enumerable.range(1, 20000).iterator();
+        Enumerable<Integer>[] evensAndOdds = Enumerable.of(() -> iterator).map(x -> x)
+                .split(x -> x % 2 == 0, x -> x % 2 != 0);
+
+        assertThat(evensAndOdds[0].count(), is(10000));
+
+        evensAndOdds[1].count();
+    }
 }
@@ -52,4 +52,17 @@ public class SumTest {
 
         assertThat(sum.get(), is(9.0));
     }
+
+    @Test
+    public void sumIteratesOnce() {
+        int[] iterations = { 0 };
+        Enumerable<Integer> ints = Enumerable.of(() -> {
+            iterations[0]++;
+
+            return Enumerable.range(1, 3).iterator();
+        });
+
+        assertThat(ints.sum(x -> x).get(), is(6.0));
+        assertThat(iterations[0], is(1));
+    }
 }
@@ -0,0 +1,51 @@
+package com.github.saulis.enumerables;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+public class TraversalTest {
+
+    @Test
+    public void terminalOperationsDoNotUseIterators() {
+        Enumerable<Integer> ints = new Enumerable<>(() -> {
+            throw new UnsupportedOperationException();
+        }, sink -> new ArrayTraversal<>(new Integer[] { 1, 2, 3, 4, 5, 6 }).traverse(sink));
+
+        Enumerable<String> pipeline = ints.filter(x -> x % 2 == 0)
+                                          .map(x -> x.toString())
+                                          .peek(x -> {})
+                                          .skip(1);
+
+        assertThat(pipeline.count(), is(2));
+        assertThat(pipeline.toList(), contains("4", "6"));
+        assertThat(pipeline.reduce("", (acc, x) -> acc + x), is("46"));
+    }
+
+    @Test
+    public void limitStopsTraversal() {
+        List<Integer> pushed = new ArrayList<>();
+
+        Enumerable.range(1, 10)
+                  .peek(x -> pushed.add(x))
+                  .map(x -> x * 2)
+                  .limit(3)
+                  .forEach(x -> {});
+
+        assertThat(pushed, contains(1, 2, 3));
+    }
+
+    @Test
+    public void indexIsPassedToForEach() {
+        List<Long> indexes = new ArrayList<>();
+
+        Enumerable.of("foo", "bar", "baz").forEach((x, i) -> indexes.add(i));
+
+        assertThat(indexes, contains(0L, 1L, 2L));
+    }
+}
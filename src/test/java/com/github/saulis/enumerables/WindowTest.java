@@ -0,0 +1,126 @@
+package com.github.saulis.enumerables;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+
+public class WindowTest {
+
+    @Test
+    public void slidingWindowsAreReturned() {
+        Enumerable<List<Integer>> windows = Enumerable.range(1, 5).window(3);
+
+        assertThat(windows, contains(Arrays.asList(1, 2, 3), Arrays.asList(2, 3, 4), Arrays.asList(3, 4, 5)));
+    }
+
+    @Test
+    public void tumblingWindowsAreReturned() {
+        Enumerable<List<Integer>> windows = Enumerable.range(1, 7).window(3, 3);
+
+        assertThat(windows, contains(Arrays.asList(1, 2, 3), Arrays.asList(4, 5, 6)));
+    }
+
+    @Test
+    public void itemsBetweenWindowsAreSkipped() {
+        Enumerable<List<Integer>> windows = Enumerable.range(1, 8).window(2, 3);
+
+        assertThat(windows, contains(Arrays.asList(1, 2), Arrays.asList(4, 5), Arrays.asList(7, 8)));
+    }
+
+    @Test
+    public void tooShortEnumerableHasNoWindows() {
+        assertThat(Enumerable.range(1, 2).window(3).isEmpty(), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void windowStepMustBePositive() {
+        Enumerable.range(1, 2).window(3, 0);
+    }
+
+    @Test
+    public void windowsAreAggregated() {
+        DoubleEnumerable values = DoubleEnumerable.of(1, 3, 2, 5, 4);
+
+        assertThat(values.windowSum(2, 1).toArray(), is(new double[] { 4, 5, 7, 9 }));
+        assertThat(values.windowAverage(2, 2).toArray(), is(new double[] { 2, 3.5 }));
+        assertThat(values.windowMin(3, 1).toArray(), is(new double[] { 1, 2, 2 }));
+        assertThat(values.windowMax(3, 1).toArray(), is(new double[] { 3, 5, 5 }));
+    }
+
+    @Test
+    public void aggregatesMatchWindows() {
+        Random random = new Random(42);
+        double[] values = new double[1000];
+
+        for(int i=0;i<values.length;i++) {
+            values[i] = random.nextInt(100);
+        }
+
+        DoubleEnumerable doubles = DoubleEnumerable.of(values);
+        Enumerable<List<Double>> windows = doubles.boxed().window(7, 2);
+
+        assertThat(doubles.windowMin(7, 2).boxed().toList(),
+                is(windows.map(w -> Enumerable.of(w).min(x -> x).get()).toList()));
+        assertThat(doubles.windowMax(7, 2).boxed().toList(),
+                is(windows.map(w -> Enumerable.of(w).max(x -> x).get()).toList()));
+        assertThat(doubles.windowSum(7, 2).boxed().toList(),
+                is(windows.map(w -> Enumerable.of(w).sum(x -> x).get()).toList()));
+    }
+
+    @Test
+    public void windowAggregatesArePushed() {
+        double[] sums = DoubleEnumerable.of(1, 2, 3, 4).windowSum(2, 1).limit(2).toArray();
+
+        assertThat(sums, is(new double[] { 3, 5 }));
+        assertThat(DoubleEnumerable.of(1, 2, 3, 4).windowMax(2, 1).limit(2).iterator().nextDouble(), is(2.0));
+    }
+
+    @Test
+    public void nonFiniteItemsLeaveWindowSums() {
+        double inf = Double.POSITIVE_INFINITY;
+        DoubleEnumerable values = DoubleEnumerable.of(inf, 1, 1, 1, 1, 1, 1);
+
+        assertThat(values.windowSum(3, 1).toArray(), is(new double[] { inf, 3, 3, 3, 3 }));
+        assertThat(values.windowAverage(3, 1).toArray(), is(new double[] { inf, 1, 1, 1, 1 }));
+        assertThat(DoubleEnumerable.of(1, Double.NaN, 2, 3, -inf, inf, 4, 5).windowSum(2, 1).toArray(),
+                is(new double[] { Double.NaN, Double.NaN, 5, -inf, Double.NaN, inf, 9 }));
+        assertThat(DoubleEnumerable.of(Double.MAX_VALUE, Double.MAX_VALUE, 1, 2, 3).windowSum(2, 1).toArray(),
+                is(new double[] { inf, Double.MAX_VALUE + 1, 3, 5 }));
+    }
+
+    @Test
+    public void windowsAreReused() {
+        List<List<Integer>> windows = Enumerable.range(1, 5).window(3, 1, true).toList();
+        List<List<Integer>> copies = new ArrayList<>();
+
+        for(List<Integer> window : Enumerable.range(1, 5).window(3, 1, true)) {
+            copies.add(new ArrayList<>(window));
+        }
+
+        assertThat(windows.get(0) == windows.get(2), is(true));
+        assertThat(copies, contains(Arrays.asList(1, 2, 3), Arrays.asList(2, 3, 4), Arrays.asList(3, 4, 5)));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void reusedWindowsAreReadOnly() {
+        Enumerable.range(1, 5).window(3, 1, true).findFirst().get().add(1);
+    }
+
+    @Test
+    public void windowsArePushed() {
+        List<List<Integer>> pushed = new ArrayList<>();
+
+        Enumerable.range(1, 8).window(3, 2).forEach(x -> pushed.add(x));
+
+        assertThat(pushed, contains(Arrays.asList(1, 2, 3), Arrays.asList(3, 4, 5), Arrays.asList(5, 6, 7)));
+        assertThat(Enumerable.range(1, 8).window(2, 2, true).map(w -> w.get(0) + w.get(1)).toList(),
+                contains(3, 7, 11, 15));
+    }
+}
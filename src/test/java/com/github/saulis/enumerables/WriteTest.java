@@ -0,0 +1,152 @@
+package com.github.saulis.enumerables;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+
+public class WriteTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void itemsAreWrittenToChannel() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = Enumerable.range(1, 1000).writeTo(Channels.newChannel(out), (x, buffer) -> buffer.putInt(x), 64, 1);
+
+        ByteBuffer bytes = ByteBuffer.wrap(out.toByteArray());
+        assertThat(written, is(4000L));
+        assertThat(bytes.getInt(0), is(1));
+        assertThat(bytes.getInt(3996), is(1000));
+    }
+
+    @Test
+    public void itemsAreWrittenWithGatheringWrites() throws IOException {
+        Path path = folder.newFile().toPath();
+
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            Enumerable.range(1, 1000).writeTo(channel, (x, buffer) -> buffer.putLong(x), 24, 4);
+        }
+
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(path));
+        assertThat(bytes.capacity(), is(8000));
+        assertThat(bytes.getLong(7992), is(1000L));
+    }
+
+    @Test
+    public void channelIsWrittenInBlocks() {
+        int[] writes = { 0 };
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(byte[] b, int off, int len) {
+                writes[0]++;
+                super.write(b, off, len);
+            }
+        };
+
+        Enumerable.range(1, 10000).writeTo(Channels.newChannel(out), (x, buffer) -> buffer.putInt(x));
+
+        assertThat(out.size(), is(40000));
+        assertThat(writes[0], lessThanOrEqualTo(5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void itemsMustFitBuffer() {
+        Enumerable.of(1L).writeTo(Channels.newChannel(new ByteArrayOutputStream()), (x, buffer) -> buffer.putLong(x), 4, 1);
+    }
+
+    @Test
+    public void linesAreWritten() throws IOException {
+        Path path = folder.newFile().toPath();
+        StringBuilder longLine = new StringBuilder();
+
+        for(int i=0;i<100000;i++) {
+            longLine.append('\u00e4');
+        }
+
+        long written = Enumerable.of("foo", null, longLine.toString()).writeLines(path);
+
+        assertThat(Files.readAllLines(path, StandardCharsets.UTF_8), contains("foo", "null", longLine.toString()));
+        assertThat(written, is(Files.size(path)));
+        assertThat(Enumerable.lines(path).map(Line::toString).toList(), contains("foo", "null", longLine.toString()));
+    }
+
+    @Test
+    public void itemsAreJoined() {
+        assertThat(Enumerable.of(1, 2, 3).joinTo(new StringBuilder("#"), ", ").toString(), is("#1, 2, 3"));
+        assertThat(Enumerable.empty().joinTo(new StringBuilder(), ", ").toString(), is(""));
+    }
+
+    @Test
+    public void itemsAreJoinedInBlocks() {
+        int[] appends = { 0 };
+        StringWriter target = new StringWriter();
+        Writer writer = new Writer() {
+            @Override
+            public Writer append(CharSequence csq) {
+                appends[0]++;
+                target.append(csq);
+                return this;
+            }
+
+            @Override
+            public void write(char[] cbuf, int off, int len) {
+                target.write(cbuf, off, len);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        Enumerable.range(1, 10000).joinTo(writer, ",");
+
+        assertThat(target.toString().split(",").length, is(10000));
+        assertThat(appends[0], lessThanOrEqualTo(8));
+    }
+
+    @Test
+    public void textIsEncodedAcrossWrites() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ChannelWriter writer = new ChannelWriter(Channels.newChannel(out), 16, 1);
+
+        writer.write("a\ud83d", StandardCharsets.UTF_8);
+        writer.write("\ude00b\ud83d", StandardCharsets.UTF_8);
+        writer.flush();
+
+        assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8), is("a\ud83d\ude00b?"));
+    }
+
+    @Test
+    public void linesAreWrittenWithoutConversion() throws IOException {
+        Path source = folder.newFile().toPath();
+        Path target = folder.newFile().toPath();
+        Files.write(source, "foo\nbar\u00e4\n".getBytes(StandardCharsets.UTF_8));
+
+        Enumerable.lines(source).writeLines(target);
+
+        assertThat(Files.readAllLines(target, StandardCharsets.UTF_8), contains("foo", "bar\u00e4"));
+    }
+}
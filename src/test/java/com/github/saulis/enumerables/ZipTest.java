@@ -0,0 +1,75 @@
+package com.github.saulis.enumerables;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+
+public class ZipTest {
+
+    @Test
+    public void itemsAreZipped() {
+        Enumerable<String> zipped = Enumerable.of("a", "b", "c").zip(Arrays.asList(1, 2, 3), (s, i) -> s + i);
+
+        assertThat(zipped, contains("a1", "b2", "c3"));
+    }
+
+    @Test
+    public void zipStopsAtShorterSide() {
+        Enumerable<Integer> longer = Enumerable.range(1, 10);
+        List<Integer> shorter = new LinkedList<>(Arrays.asList(1, 2, 3));
+
+        assertThat(longer.zip(shorter, (x, y) -> x * y), contains(1, 4, 9));
+        assertThat(longer.filter(x -> true).zip(shorter, (x, y) -> x * y).count(), is(3));
+        assertThat(Enumerable.of(shorter).zip(longer, (x, y) -> x + y), contains(2, 4, 6));
+    }
+
+    @Test
+    public void randomAccessSidesAreZippedByIndex() {
+        Enumerable<Integer> zipped = Enumerable.range(1, 10).zip(new ArrayList<>(Arrays.asList(1, 2, 3)), (x, y) -> x + y);
+
+        assertThat(zipped.count(), is(3));
+        assertThat(zipped.elementAt(2).get(), is(6));
+        assertThat(zipped.reverse(), contains(6, 4, 2));
+        assertThat(Enumerable.range(1, 1000).parallel().zip(Enumerable.range(1, 1000), (x, y) -> x + y)
+                .reduce(0L, (acc, x) -> acc + x, Long::sum), is(1001000L));
+    }
+
+    @Test
+    public void zipIsLazy() {
+        Enumerable<Integer> infinite = new Enumerable<>(() -> new FunctionIterator<>(1, x -> x + 1, i -> true));
+
+        assertThat(infinite.zip(infinite, (x, y) -> x * y).limit(3), contains(1, 4, 9));
+    }
+
+    @Test
+    public void multipleEnumerablesAreZipped() {
+        Enumerable<Integer> sums = Enumerable.zip(x -> x.get(0) + x.get(1) + x.get(2),
+                Enumerable.range(1, 5),
+                new LinkedList<>(Arrays.asList(10, 20, 30)),
+                Enumerable.range(100, 200));
+
+        assertThat(sums, contains(111, 123, 135));
+        assertThat(sums, contains(111, 123, 135));
+    }
+
+    @Test
+    public void randomAccessEnumerablesAreZippedByIndex() {
+        Enumerable<List<Integer>> columns = Enumerable.zip(x -> new ArrayList<>(x),
+                Enumerable.range(1, 3), Arrays.asList(4, 5, 6));
+
+        assertThat(columns.count(), is(3));
+        assertThat(columns, contains(Arrays.asList(1, 4), Arrays.asList(2, 5), Arrays.asList(3, 6)));
+    }
+
+    @Test
+    public void zippingNothingIsEmpty() {
+        assertThat(Enumerable.<Integer, Integer>zip(x -> x.size()).isEmpty(), is(true));
+    }
+}